@@ -136,6 +136,16 @@ public abstract class Json {
         return new JObject(LinkedHashMap.ofAll(value));
     }
 
+    /**
+     * Returns a canonical instance of the value, where equal subtrees and strings
+     * are shared with previously interned values.
+     *
+     * @see JsonInterner#shared()
+     */
+    public static JValue intern(JValue value) {
+        return JsonInterner.shared().intern(value);
+    }
+
     public static Tuple2<String, JValue> tuple(String name, JValue value) {
         return Tuple.of(
                 Objects.requireNonNull(name, "Name for entry may not be null"),
@@ -203,6 +213,94 @@ public abstract class Json {
         return (ignore) -> Option.none();
     }
 
+    /**
+     * Compares containers with an explicit stack of pending pairs, so nesting depth is not bounded by the thread stack.
+     * Cached hashes that differ end the comparison early.
+     */
+    private static boolean deepEquals(JValue a, JValue b) {
+        ArrayList<JValue> pending = new ArrayList<>();
+        pending.add(a);
+        pending.add(b);
+        while (!pending.isEmpty()) {
+            JValue y = pending.remove(pending.size() - 1);
+            JValue x = pending.remove(pending.size() - 1);
+            if (x == y) continue;
+            if (x.getClass() != y.getClass()) return false;
+            if (x instanceof JObject) {
+                JObject o1 = (JObject) x;
+                JObject o2 = (JObject) y;
+                if (o1.hash != 0 && o2.hash != 0 && o1.hash != o2.hash) return false;
+                if (o1.value.size() != o2.value.size()) return false;
+                for (Tuple2<String, JValue> entry : o1.value) {
+                    Option<JValue> other = o2.value.get(entry._1);
+                    if (other.isEmpty()) return false;
+                    pending.add(entry._2);
+                    pending.add(other.get());
+                }
+            }
+            else if (x instanceof JArray) {
+                JArray a1 = (JArray) x;
+                JArray a2 = (JArray) y;
+                if (a1.hash != 0 && a2.hash != 0 && a1.hash != a2.hash) return false;
+                if (a1.value.size() != a2.value.size()) return false;
+                Iterator<JValue> other = a2.value.iterator();
+                for (JValue v : a1.value) {
+                    pending.add(v);
+                    pending.add(other.next());
+                }
+            }
+            else if (!x.equals(y)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes and caches the hashes of the containers in a value, children before parents,
+     * so that computing a hash never recurses into uncached children.
+     */
+    private static void cacheHashes(JValue value) {
+        ArrayList<JValue> containers = new ArrayList<>();
+        java.util.Set<JValue> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayList<JValue> pending = new ArrayList<>();
+        pending.add(value);
+        while (!pending.isEmpty()) {
+            JValue v = pending.remove(pending.size() - 1);
+            if (v instanceof JObject && !((JObject) v).isHashCached() && seen.add(v)) {
+                containers.add(v);
+                for (Tuple2<String, JValue> entry : ((JObject) v).value) {
+                    pending.add(entry._2);
+                }
+            }
+            else if (v instanceof JArray && !((JArray) v).isHashCached() && seen.add(v)) {
+                containers.add(v);
+                ((JArray) v).value.forEach(pending::add);
+            }
+        }
+        for (int i = containers.size() - 1; i >= 0; i--) {
+            JValue v = containers.get(i);
+            if (v instanceof JObject) {
+                ((JObject) v).computeHash();
+            }
+            else {
+                ((JArray) v).computeHash();
+            }
+        }
+    }
+
+    private static final class MergeFrame {
+        private final String key;
+        private final Iterator<Tuple2<String, JValue>> entries;
+        private Map<String, JValue> merged;
+
+        MergeFrame(String key, JObject target, JObject value) {
+            this.key = key;
+            this.entries = value.iterator();
+            this.merged = target.value;
+        }
+    }
+
     public static abstract class JValue implements Serializable {
 
         private JValue() {
@@ -317,20 +415,30 @@ public abstract class Json {
          * from this JSON.
          */
         public final JValue deepmerge(JValue value) {
-            Option<JObject> first = asJsonObject();
-            Option<JObject> second = value.asJsonObject();
-
-            if (first.isDefined() && second.isDefined()) {
-                return second.get().stream().reduce(first.get(), (obj, kv) -> {
-                    Option<JValue> v1 = obj.get(kv._1);
-                    if (v1.isDefined()) {
-                        return obj.put(kv._1, v1.get().deepmerge(kv._2));
+            if (!isObject() || !value.isObject()) {
+                return value;
+            }
+            ArrayList<MergeFrame> stack = new ArrayList<>();
+            stack.add(new MergeFrame(null, (JObject) this, (JObject) value));
+            while (true) {
+                MergeFrame frame = stack.get(stack.size() - 1);
+                if (frame.entries.hasNext()) {
+                    Tuple2<String, JValue> kv = frame.entries.next();
+                    Option<JValue> v1 = frame.merged.get(kv._1);
+                    if (v1.isDefined() && v1.get().isObject() && kv._2.isObject()) {
+                        stack.add(new MergeFrame(kv._1, (JObject) v1.get(), (JObject) kv._2));
                     } else {
-                        return obj.put(kv._1, kv._2);
+                        frame.merged = frame.merged.put(kv._1, kv._2);
                     }
-                }, JObject::concat);
-            } else {
-                return value;
+                } else {
+                    stack.remove(stack.size() - 1);
+                    JObject merged = new JObject(frame.merged);
+                    if (stack.isEmpty()) {
+                        return merged;
+                    }
+                    MergeFrame parent = stack.get(stack.size() - 1);
+                    parent.merged = parent.merged.put(frame.key, merged);
+                }
             }
         }
 
@@ -537,6 +645,11 @@ public abstract class Json {
 
     public static final class JArray extends JValue implements Iterable<JValue> {
         public final List<JValue> value;
+        private transient int hash;
+        /**
+         * Set when the computed hash is 0, so that containers hashing to 0 are not hashed again on every call.
+         */
+        private transient boolean hashIsZero;
 
         private JArray(List<JValue> value) {
             this.value = Objects.requireNonNull(value, "You may not supply a null List in JArray");
@@ -547,15 +660,27 @@ public abstract class Json {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
 
-            JArray jArray = (JArray) o;
-
-            return value.equals(jArray.value);
-
+            return deepEquals(this, (JArray) o);
         }
 
         @Override
         public int hashCode() {
-            return value.hashCode();
+            if (!isHashCached()) {
+                cacheHashes(this);
+            }
+            return hash;
+        }
+
+        private boolean isHashCached() {
+            return hash != 0 || hashIsZero;
+        }
+
+        private void computeHash() {
+            int h = value.hashCode();
+            if (h == 0) {
+                hashIsZero = true;
+            }
+            hash = h;
         }
 
         @Override
@@ -687,6 +812,8 @@ public abstract class Json {
 
     public static final class JObject extends JValue implements Iterable<Tuple2<String, JValue>> {
         public final Map<String, JValue> value;
+        private transient int hash;
+        private transient boolean hashIsZero;
 
         private JObject(Map<String, JValue> value) {
             this.value = Objects.requireNonNull(value, "You may not supply a null Map to JObject");
@@ -697,15 +824,34 @@ public abstract class Json {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
 
-            JObject jObject = (JObject) o;
-
-            return value.toJavaMap().equals(jObject.value.toJavaMap());
-
+            return deepEquals(this, (JObject) o);
         }
 
+        /**
+         * Consistent with {@link #equals(Object)}, which ignores key order,
+         * the hash is computed as for a {@link java.util.Map}.
+         */
         @Override
         public int hashCode() {
-            return value.hashCode();
+            if (!isHashCached()) {
+                cacheHashes(this);
+            }
+            return hash;
+        }
+
+        private boolean isHashCached() {
+            return hash != 0 || hashIsZero;
+        }
+
+        private void computeHash() {
+            int h = 0;
+            for (Tuple2<String, JValue> entry : value) {
+                h += entry._1.hashCode() ^ entry._2.hashCode();
+            }
+            if (h == 0) {
+                hashIsZero = true;
+            }
+            hash = h;
         }
 
         @Override
@@ -0,0 +1,198 @@
+package net.hamnaberg.json;
+
+import javaslang.Tuple2;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes json values, so that equal subtrees and strings are represented by a single shared instance.
+ * <p>
+ * Values are held weakly in a table split into independently locked stripes. Each stripe is bounded,
+ * and is cleared when it fills up, so the table never grows past its configured size.
+ * <p>
+ * Interning is useful for long lived values with a lot of repetition, as the retained heap is reduced.
+ * It is not useful for short lived values, as every node is hashed and looked up.
+ */
+public final class JsonInterner {
+    private static final int STRIPES = 16;
+    private static final JsonInterner SHARED = new JsonInterner(1 << 16);
+
+    private final Stripe<Json.JValue>[] values;
+    private final Stripe<String>[] keys;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of values, and separately keys, held in the table
+     */
+    @SuppressWarnings("unchecked")
+    public JsonInterner(int maxSize) {
+        if (maxSize < STRIPES) {
+            throw new IllegalArgumentException(String.format("maxSize must be at least %s, was %s", STRIPES, maxSize));
+        }
+        int stripeSize = maxSize / STRIPES;
+        this.values = new Stripe[STRIPES];
+        this.keys = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            values[i] = new Stripe<>(stripeSize);
+            keys[i] = new Stripe<>(stripeSize);
+        }
+    }
+
+    /**
+     * The interner used by {@link Json#intern(Json.JValue)}, holding at most 65536 values.
+     */
+    public static JsonInterner shared() {
+        return SHARED;
+    }
+
+    public Json.JValue intern(Json.JValue value) {
+        if (value instanceof Json.JObject) {
+            return lookup(internChildren((Json.JObject) value), Sizes.OBJECT + Sizes.OBJECT_ENTRY * ((Json.JObject) value).size());
+        }
+        if (value instanceof Json.JArray) {
+            return lookup(internChildren((Json.JArray) value), Sizes.ARRAY + Sizes.ARRAY_ELEMENT * ((Json.JArray) value).size());
+        }
+        if (value instanceof Json.JString) {
+            return lookup(value, Sizes.JSTRING + Sizes.string(((Json.JString) value).value));
+        }
+        if (value instanceof Json.JNumber) {
+            return lookup(value, Sizes.JNUMBER);
+        }
+        return value;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * An estimate of the heap no longer retained, because duplicates were replaced by shared instances.
+     * It assumes a 64 bit jvm with compressed references.
+     */
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    private Json.JObject internChildren(Json.JObject object) {
+        Map<String, Json.JValue> map = new LinkedHashMap<>(object.size() * 2);
+        boolean changed = false;
+        for (Tuple2<String, Json.JValue> entry : object) {
+            String key = internKey(entry._1);
+            Json.JValue value = intern(entry._2);
+            changed |= key != entry._1 || value != entry._2;
+            map.put(key, value);
+        }
+        return changed ? Json.jObject(map) : object;
+    }
+
+    private Json.JArray internChildren(Json.JArray array) {
+        ArrayList<Json.JValue> list = new ArrayList<>(array.size());
+        boolean changed = false;
+        for (Json.JValue element : array) {
+            Json.JValue value = intern(element);
+            changed |= value != element;
+            list.add(value);
+        }
+        return changed ? Json.jArray(list) : array;
+    }
+
+    private String internKey(String key) {
+        String canonical = stripe(keys, key.hashCode()).intern(key);
+        count(canonical != key, Sizes.string(key));
+        return canonical;
+    }
+
+    private Json.JValue lookup(Json.JValue value, long size) {
+        Json.JValue canonical = stripe(values, value.hashCode()).intern(value);
+        if (canonical != value && !sameChildren(canonical, value)) {
+            canonical = value;
+        }
+        count(canonical != value, size);
+        return canonical;
+    }
+
+    /**
+     * Object equality ignores key order, but interning must not reorder keys.
+     * Children are interned first, so an equal container with the same order has identical children.
+     */
+    private static boolean sameChildren(Json.JValue canonical, Json.JValue value) {
+        if (value instanceof Json.JObject) {
+            Iterator<Tuple2<String, Json.JValue>> it = ((Json.JObject) canonical).iterator();
+            for (Tuple2<String, Json.JValue> entry : (Json.JObject) value) {
+                Tuple2<String, Json.JValue> other = it.next();
+                if (entry._1 != other._1 || entry._2 != other._2) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Json.JArray) {
+            Iterator<Json.JValue> it = ((Json.JArray) canonical).iterator();
+            for (Json.JValue element : (Json.JArray) value) {
+                if (element != it.next()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void count(boolean hit, long size) {
+        if (hit) {
+            hits.increment();
+            bytesSaved.add(size);
+        } else {
+            misses.increment();
+        }
+    }
+
+    private static <A> Stripe<A> stripe(Stripe<A>[] stripes, int hash) {
+        int h = hash ^ (hash >>> 16);
+        return stripes[h & (STRIPES - 1)];
+    }
+
+    private static final class Stripe<A> {
+        private final int maxSize;
+        private final WeakHashMap<A, WeakReference<A>> table = new WeakHashMap<>();
+
+        Stripe(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        synchronized A intern(A value) {
+            WeakReference<A> ref = table.get(value);
+            A existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            if (table.size() >= maxSize) {
+                table.clear();
+            }
+            table.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    private static final class Sizes {
+        static final long OBJECT = 16 + 24 + 40;
+        static final long OBJECT_ENTRY = 24 + 24 + 32;
+        static final long ARRAY = 16;
+        static final long ARRAY_ELEMENT = 24;
+        static final long JSTRING = 16;
+        static final long JNUMBER = 16 + 40;
+
+        static long string(String s) {
+            return 24 + 16 + 2L * s.length();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package net.hamnaberg.json;
 
 
 import javaslang.Tuple2;
-import javaslang.collection.Map;
+
+import java.util.ArrayList;
+import java.util.Iterator;
 
 public final class PrettyPrinter {
     private final static int INDENT_LEVELS = 16;
@@ -66,44 +68,83 @@ public final class PrettyPrinter {
         return state.toString();
     }
 
+    /**
+     * Open containers are kept on an explicit stack, so nesting depth is not bounded by the thread stack.
+     */
     private void writeValue(Json.JValue value, PrinterState state) {
-        value.foldUnit(
-                js -> state.append(escape(js.value)),
-                jb -> state.append(jb.value),
-                jn -> state.append(jn.value.toString()),
-                obj -> writeObject(obj, state),
-                arr -> writeArray(arr, state),
-                () -> state.append("null")
-        );
-    }
-
-    private void writeObject(Json.JObject obj, PrinterState state) {
-        writeStartObject(state);
-
-        int index = 0;
-        Map<String, Json.JValue> map = obj.value;
-        for (Tuple2<String, Json.JValue> entry : map) {
-            if (entry._2.isNull() && dropNullKeys) {
-                continue;
+        ArrayList<Frame> stack = new ArrayList<>();
+        Json.JValue next = value;
+        while (true) {
+            if (next != null) {
+                next.foldUnit(
+                        js -> state.append(escape(js.value)),
+                        jb -> state.append(jb.value),
+                        jn -> state.append(jn.value.toString()),
+                        obj -> {
+                            writeStartObject(state);
+                            stack.add(new Frame(obj.iterator(), null));
+                        },
+                        arr -> {
+                            writeStartArray(state);
+                            stack.add(new Frame(null, arr.iterator()));
+                        },
+                        () -> state.append("null")
+                );
+            }
+            if (stack.isEmpty()) {
+                return;
+            }
+            Frame frame = stack.get(stack.size() - 1);
+            next = nextChild(frame, state);
+            if (next == null) {
+                stack.remove(stack.size() - 1);
+                if (frame.members != null) {
+                    writeEndObject(state);
+                }
+                else {
+                    writeEndArray(state);
+                }
             }
+        }
+    }
 
-            if (index > 0) {
-                state.append(",");
+    /**
+     * Writes what goes before the next member or element of the container, and returns it.
+     *
+     * @return the next value to write, or null if the container is done
+     */
+    private Json.JValue nextChild(Frame frame, PrinterState state) {
+        if (frame.members != null) {
+            while (frame.members.hasNext()) {
+                Tuple2<String, Json.JValue> entry = frame.members.next();
+                if (entry._2.isNull() && dropNullKeys) {
+                    continue;
+                }
+                writeSeparator(frame, state);
+                writePropertyName(entry._1, state);
+                return entry._2;
             }
-            doIndent(state);
-            writeProperty(entry._1, entry._2, state);
-            index++;
         }
+        else if (frame.elements.hasNext()) {
+            writeSeparator(frame, state);
+            return frame.elements.next();
+        }
+        return null;
+    }
 
-        writeEndObject(state);
+    private void writeSeparator(Frame frame, PrinterState state) {
+        if (frame.index > 0) {
+            state.append(",");
+        }
+        doIndent(state);
+        frame.index++;
     }
 
-    private void writeProperty(String name, Json.JValue value, PrinterState state) {
+    private void writePropertyName(String name, PrinterState state) {
         state.append(escape(name)).append(":");
         if (spaceafterColon) {
             state.append(" ");
         }
-        writeValue(value, state);
     }
 
     private void writeEndObject(PrinterState state) {
@@ -117,22 +158,6 @@ public final class PrettyPrinter {
         state.levelUp();
     }
 
-    private void writeArray(Json.JArray arr, PrinterState state) {
-        writeStartArray(state);
-
-        int length = arr.size();
-        for (int i = 0; i < length; i++) {
-            Json.JValue v = arr.getValue().get(i);
-            if (i > 0) {
-                state.append(",");
-            }
-            doIndent(state);
-            writeValue(v, state);
-        }
-
-        writeEndArray(state);
-    }
-
     private void writeEndArray(PrinterState state) {
         state.levelDown();
         doIndent(state);
@@ -200,6 +225,17 @@ public final class PrettyPrinter {
         }
     }
 
+    private static final class Frame {
+        private final Iterator<Tuple2<String, Json.JValue>> members;
+        private final Iterator<Json.JValue> elements;
+        private int index;
+
+        Frame(Iterator<Tuple2<String, Json.JValue>> members, Iterator<Json.JValue> elements) {
+            this.members = members;
+            this.elements = elements;
+        }
+    }
+
     private class PrinterState {
         private int level = 0;
         private final StringBuilder sb = new StringBuilder();
@@ -0,0 +1,51 @@
+package net.hamnaberg.json;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JsonInternerTest {
+
+    private Json.JObject currency() {
+        return Json.jObject(
+                Json.tuple("code", Json.jString("NOK")),
+                Json.tuple("decimals", Json.jNumber(2))
+        );
+    }
+
+    @Test
+    public void sharesEqualSubtrees() {
+        JsonInterner interner = new JsonInterner(1024);
+        Json.JArray array = Json.jArray(
+                Json.jObject("price", currency()),
+                Json.jObject("price", currency())
+        );
+
+        Json.JValue interned = interner.intern(array);
+        assertEquals(array, interned);
+
+        Json.JArray result = interned.asJsonArrayOrEmpty();
+        Json.JValue first = result.get(0).get().asJsonObjectOrEmpty().get("price").get();
+        Json.JValue second = result.get(1).get().asJsonObjectOrEmpty().get("price").get();
+        assertSame(first, second);
+        assertSame(result.get(0).get(), result.get(1).get());
+        assertTrue(interner.hits() > 0);
+        assertTrue(interner.bytesSaved() > 0);
+    }
+
+    @Test
+    public void keepsKeyOrder() {
+        JsonInterner interner = new JsonInterner(1024);
+        Json.JObject ab = Json.jObject(Json.tuple("a", Json.jNumber(1)), Json.tuple("b", Json.jNumber(2)));
+        Json.JObject ba = Json.jObject(Json.tuple("b", Json.jNumber(2)), Json.tuple("a", Json.jNumber(1)));
+
+        assertEquals(ab.hashCode(), ba.hashCode());
+        assertEquals(ab.nospaces(), interner.intern(ab).nospaces());
+        assertEquals(ba.nospaces(), interner.intern(ba).nospaces());
+    }
+
+    @Test
+    public void sharedInterner() {
+        assertSame(Json.intern(currency()), Json.intern(currency()));
+    }
+}
@@ -176,6 +176,45 @@ public class JsonTest {
         assertEquals(object, read);
     }
 
+    @Test
+    public void objectEqualityIgnoresOrder() throws Exception {
+        Json.JObject a = Json.jObject(Json.tuple("a", Json.jNumber(1)), Json.tuple("b", Json.jArray(Json.jString("c"))));
+        Json.JObject b = Json.jObject(Json.tuple("b", Json.jArray(Json.jString("c"))), Json.tuple("a", Json.jNumber(1)));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, b.put("a", 2));
+        assertNotEquals(a, b.remove("a"));
+        assertNotEquals(Json.jArray(Json.jNumber(1), Json.jNumber(2)), Json.jArray(Json.jNumber(2), Json.jNumber(1)));
+    }
+
+    @Test
+    public void deepNestingDoesNotOverflow() throws Exception {
+        Json.JValue a = Json.jNumber(1);
+        Json.JValue b = Json.jNumber(1);
+        Json.JValue c = Json.jNumber(2);
+        for (int i = 0; i < 100000; i++) {
+            a = i % 2 == 0 ? Json.jArray(a, Json.jNull()) : Json.jObject("a", a);
+            b = i % 2 == 0 ? Json.jArray(b, Json.jNull()) : Json.jObject("a", b);
+            c = i % 2 == 0 ? Json.jArray(c, Json.jNull()) : Json.jObject("a", c);
+        }
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+        assertEquals(a.nospaces().length(), c.nospaces().length());
+
+        Json.JValue left = Json.jObject("x", 1);
+        Json.JValue right = Json.jObject("y", 2);
+        for (int i = 0; i < 100000; i++) {
+            left = Json.jObject("a", left);
+            right = Json.jObject("a", right);
+        }
+        Json.JValue merged = left.deepmerge(right);
+        for (int i = 0; i < 100000; i++) {
+            merged = merged.asJsonObjectOrEmpty().get("a").get();
+        }
+        assertEquals(Json.jObject(Json.tuple("x", Json.jNumber(1)), Json.tuple("y", Json.jNumber(2))), merged);
+    }
+
     private List<Json.JValue> jsonRange(int start, int end) {
         ArrayList<Json.JValue> list = new ArrayList<>();
         for (int i = start; i <= end; i++) {
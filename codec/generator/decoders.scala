@@ -5,17 +5,13 @@ def template(arity: Int)= {
   val arities = (1 to arity)
   val types = arities.map(i => s"A$i").mkString(", ")
   val params = arities.map(i => s"FieldDecoder<A$i> fd$i").mkString(", ")
-  val apply = arities.map(i => s"d$i.flatMap(v$i -> ").mkString("")
-  val extractions = arities.map(i => s"      DecodeResult<A$i> d$i = DecodeResult.decode(object, fd$i.name, fd$i.decoder);").mkString("\n")
-  val endParams = arities.map(_ => ")").mkString
-  val values = arities.map(i => s"v$i").mkString(", ")
+  val fields = arities.map(i => s"fd$i").mkString(", ")
+  val values = arities.map(i => s"(A$i) v[${i - 1}]").mkString(", ")
 
-  s"""|public static <TT, $types> DecodeJson<TT> decode($params, $functionName$arity<$types, TT> func) {
-     |  return (value) -> {
-     |      Json.JObject object = value.asJsonObjectOrEmpty();
-     |$extractions
-     |      return $apply DecodeResult.ok(func.apply($values)$endParams);
-     |  };
+  s"""|@SuppressWarnings("unchecked")
+     |public static <TT, $types> DecodeJson<TT> decode($params, $functionName$arity<$types, TT> func) {
+     |    FieldDecoder<?>[] fields = {$fields};
+     |    return (value) -> decodeFields(value, fields).map(v -> func.apply($values));
      |}
      |""".stripMargin
 }
@@ -36,23 +36,56 @@ public abstract class Codecs {
             "Number"
     );
 
-    public static final JsonCodec<Long> CLong = new DefaultJsonCodec<>(
-            Decoders.DLong,
-            Encoders.ELong,
-            "Long"
-    );
-
-    public static final JsonCodec<Double> CDouble = new DefaultJsonCodec<>(
-            Decoders.DDouble,
-            Encoders.EDouble,
-            "Double"
-    );
-
-    public static final JsonCodec<Integer> CInt = new DefaultJsonCodec<>(
-            Decoders.DInt,
-            Encoders.EInt,
-            "Int"
-    );
+    public static final LongCodec CLong = new LongCodec() {
+        @Override
+        public long decodeLong(Json.JValue value) {
+            return number(value).asLong();
+        }
+
+        @Override
+        public Json.JValue encodeLong(long value) {
+            return Json.jNumber(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Long";
+        }
+    };
+
+    public static final DoubleCodec CDouble = new DoubleCodec() {
+        @Override
+        public double decodeDouble(Json.JValue value) {
+            return number(value).asDouble();
+        }
+
+        @Override
+        public Json.JValue encodeDouble(double value) {
+            return Json.jNumber(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Double";
+        }
+    };
+
+    public static final IntCodec CInt = new IntCodec() {
+        @Override
+        public int decodeInt(Json.JValue value) {
+            return number(value).asInt();
+        }
+
+        @Override
+        public Json.JValue encodeInt(int value) {
+            return Json.jNumber(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Int";
+        }
+    };
 
     public static final JsonCodec<Boolean> CBoolean = new DefaultJsonCodec<>(
             Decoders.DBoolean,
@@ -89,6 +122,18 @@ public abstract class Codecs {
             "Instant"
     );
 
+    public static final JsonCodec<ZonedDateTime> CFastISODateTimeUTC = new DefaultJsonCodec<>(
+            Decoders.DFastISODateTimeUTC,
+            Encoders.EFastISODateTimeUTC,
+            "ZonedDateTime"
+    );
+
+    public static final JsonCodec<Instant> CFastISOInstantUTC = new DefaultJsonCodec<>(
+            Decoders.DFastISOInstantUTC,
+            Encoders.EFastISOInstantUTC,
+            "Instant"
+    );
+
     public static <A> JsonCodec<A> nullCodec() {
         return new DefaultJsonCodec<>(
                 ignore -> DecodeResult.ok(null),
@@ -98,9 +143,8 @@ public abstract class Codecs {
     }
 
     public static <A> JsonCodec<List<A>> listCodec(JsonCodec<A> codec) {
-        DecodeJson<List<A>> decodeJson = value -> DecodeResult.sequence(value.asJsonArrayOrEmpty().mapToList(codec::fromJson));
         return new DefaultJsonCodec<>(
-                decodeJson.withDefaultValue(List.empty()),
+                Decoders.listDecoder(codec).withDefaultValue(List.empty()),
                 value -> Json.jArray(value.map(codec::toJson)),
                 String.format("ListCodec(%s)", codec.toString())
         );
@@ -111,6 +155,38 @@ public abstract class Codecs {
         return JsonCodec.lift(listCodec.withDefaultValue(Collections.emptyList()), listCodec);
     }
 
+    public static JsonCodec<int[]> intArrayCodec() {
+        return new DefaultJsonCodec<>(
+                Decoders.intArrayDecoder().withDefaultValue(new int[0]),
+                Encoders.intArrayEncoder(),
+                "IntArrayCodec"
+        );
+    }
+
+    public static JsonCodec<long[]> longArrayCodec() {
+        return new DefaultJsonCodec<>(
+                Decoders.longArrayDecoder().withDefaultValue(new long[0]),
+                Encoders.longArrayEncoder(),
+                "LongArrayCodec"
+        );
+    }
+
+    public static JsonCodec<double[]> doubleArrayCodec() {
+        return new DefaultJsonCodec<>(
+                Decoders.doubleArrayDecoder().withDefaultValue(new double[0]),
+                Encoders.doubleArrayEncoder(),
+                "DoubleArrayCodec"
+        );
+    }
+
+    /**
+     * A codec for objects whose discriminator field names the codec to decode them with.
+     * Register each alternative with {@link TaggedUnionCodec#with(String, Class, JsonCodec)}.
+     */
+    public static <A> TaggedUnionCodec<A> taggedUnion(String discriminatorField) {
+        return TaggedUnionCodec.of(discriminatorField);
+    }
+
     public static <A> JsonCodec<Option<A>> OptionCodec(JsonCodec<A> codec) {
         DecodeJson<Option<A>> decoder = value -> value.isNull() ? DecodeResult.ok(Option.none()) : DecodeResult.ok(codec.fromJson(value).toOption());
         EncodeJson<Option<A>> encoder = value -> value.map(codec::toJson).getOrElse(Json.jNull());
@@ -129,6 +205,13 @@ public abstract class Codecs {
         );
     }
 
+    private static Json.JNumber number(Json.JValue value) {
+        if (value instanceof Json.JNumber) {
+            return (Json.JNumber) value;
+        }
+        throw new NoSuchElementException("No value found");
+    }
+
     public static <A1> JsonCodec<A1> of(NamedJsonCodec<A1> c1) {
         return codec(c1);
     }
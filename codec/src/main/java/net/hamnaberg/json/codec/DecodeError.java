@@ -0,0 +1,66 @@
+package net.hamnaberg.json.codec;
+
+import javaslang.collection.List;
+import net.hamnaberg.json.pointer.JsonPointer;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * One reason decoding failed, and where.
+ * <p>
+ * The location is collected as field names and array indices while the failure propagates out of nested decoders,
+ * and is only turned into a {@link JsonPointer}, like the message is only rendered, when asked for.
+ */
+public final class DecodeError {
+    /**
+     * A field the decoder needs is not in the object.
+     */
+    public static final String MISSING = "missing";
+    /**
+     * The value is there, but can not be decoded.
+     */
+    public static final String INVALID = "invalid";
+
+    private final List<Object> path;
+    public final String code;
+    private final Supplier<String> message;
+
+    private DecodeError(List<Object> path, String code, Supplier<String> message) {
+        this.path = path;
+        this.code = Objects.requireNonNull(code, "Code may not be null");
+        this.message = Objects.requireNonNull(message, "Message may not be null");
+    }
+
+    public static DecodeError of(String code, Supplier<String> message) {
+        return new DecodeError(List.empty(), code, message);
+    }
+
+    /**
+     * The location of the failed value, relative to the value given to the outermost decoder.
+     */
+    public JsonPointer path() {
+        JsonPointer pointer = JsonPointer.compile("");
+        for (Object segment : path) {
+            pointer = segment instanceof Integer ? pointer.append((int) segment) : pointer.append((String) segment);
+        }
+        return pointer;
+    }
+
+    public String message() {
+        return message.get();
+    }
+
+    DecodeError within(String name) {
+        return new DecodeError(path.prepend(name), code, message);
+    }
+
+    DecodeError within(int index) {
+        return new DecodeError(path.prepend(index), code, message);
+    }
+
+    @Override
+    public String toString() {
+        return path.isEmpty() ? message() : path() + ": " + message();
+    }
+}
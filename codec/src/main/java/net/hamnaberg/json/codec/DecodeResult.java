@@ -5,6 +5,7 @@ import javaslang.control.Either;
 import javaslang.control.Option;
 import net.hamnaberg.json.Json;
 
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -13,12 +14,13 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public abstract class DecodeResult<A> {
+    private static final Failure NO_VALUE = new Failure("No value found");
 
     private DecodeResult() {
     }
 
     public final <B> DecodeResult<B> map(Function<A, B> f) {
-        return fold(okValue -> ok(f.apply(okValue.value)), fail -> fail(fail.message));
+        return fold(okValue -> ok(f.apply(okValue.value)), DecodeResult::failure);
     }
 
     public final DecodeResult<A> filter(Predicate<A> p) {
@@ -26,7 +28,7 @@ public abstract class DecodeResult<A> {
     }
 
     public final DecodeResult<A> filter(Predicate<A> p, Supplier<String> errorSupplier) {
-        return flatMap(a -> p.test(a) ? ok(a) : fail(errorSupplier.get()));
+        return flatMap(a -> p.test(a) ? ok(a) : fail(DecodeError.INVALID, errorSupplier));
     }
 
     public final void forEach(Consumer<A> f) {
@@ -34,7 +36,7 @@ public abstract class DecodeResult<A> {
     }
 
     public final <B> DecodeResult<B> flatMap(Function<A, DecodeResult<B>> f) {
-        return fold(f.compose(Ok::getValue), fail -> fail(fail.message));
+        return fold(f.compose(Ok::getValue), DecodeResult::failure);
     }
 
     public final A getOrElse(Supplier<A> orElse) {
@@ -43,7 +45,7 @@ public abstract class DecodeResult<A> {
 
     public final <X extends Throwable> A getOrElseThrow(Function<String, X> exProvider) throws X {
         if (isFailure()) {
-            String msg = ((Failure)this).message;
+            String msg = ((Failure)this).getMessage();
             throw exProvider.apply(msg);
         }
         return ((Ok<A>)this).value;
@@ -51,12 +53,12 @@ public abstract class DecodeResult<A> {
 
     public final A unsafeGet() {
         return fold(Ok::getValue, e -> {
-            throw new NoSuchElementException(e.message);
+            throw new NoSuchElementException(e.getMessage());
         });
     }
 
     public final Either<String, A> toEither() {
-        return fold(ok -> Either.right(ok.value), err -> Either.left(err.message));
+        return fold(ok -> Either.right(ok.value), err -> Either.left(err.getMessage()));
     }
 
     public final Option<A> toOption() {
@@ -79,19 +81,28 @@ public abstract class DecodeResult<A> {
         return fold(a -> false, a -> true);
     }
 
+    /**
+     * Fails with the errors of every failed result, if any failed.
+     */
     public static <A> DecodeResult<List<A>> sequence(List<DecodeResult<A>> decodeResults) {
         if (decodeResults.isEmpty()) {
             return DecodeResult.ok(List.empty());
         }
         List<A> list = List.empty();
+        java.util.List<DecodeError> errors = null;
 
         for (DecodeResult<A> decodeResult : decodeResults) {
-            if (decodeResult.isFailure()) {
-                return DecodeResult.fail("One or more results failed");
+            if (decodeResult instanceof Failure) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                ((Failure) decodeResult).errors.forEach(errors::add);
+            }
+            else if (errors == null) {
+                list = list.prepend(((Ok<A>) decodeResult).value);
             }
-            list = list.prepend(decodeResult.unsafeGet());
         }
-        return DecodeResult.ok(list.reverse());
+        return errors == null ? DecodeResult.ok(list.reverse()) : DecodeResult.fail(List.ofAll(errors));
     }
 
     public static <A> DecodeResult<A> ok(A value) {
@@ -99,29 +110,44 @@ public abstract class DecodeResult<A> {
     }
 
     public static <A> DecodeResult<A> fromOption(Option<A> value) {
-        return value.map(DecodeResult::ok).getOrElse(fail("No value found"));
+        return value.isDefined() ? DecodeResult.ok(value.get()) : failure(NO_VALUE);
     }
 
-    @SuppressWarnings("unchecked")
     public static <A> DecodeResult<A> fail(String message) {
-        return (DecodeResult<A>) new Failure(message);
+        return failure(new Failure(message));
+    }
+
+    /**
+     * Fails without rendering the message unless it is asked for.
+     */
+    public static <A> DecodeResult<A> fail(String code, Supplier<String> message) {
+        return failure(new Failure(List.of(DecodeError.of(code, message))));
     }
 
+    public static <A> DecodeResult<A> fail(List<DecodeError> errors) {
+        return failure(new Failure(errors));
+    }
 
-    private static DecodeResult<Json.JValue> getValue(Json.JObject object, String name) {
-        return object.
-                get(name).
-                map(DecodeResult::ok).
-                getOrElse(DecodeResult.fail(String.format("%s not found in %s", name, object)));
+    @SuppressWarnings("unchecked")
+    static <A> DecodeResult<A> failure(Failure failure) {
+        return (DecodeResult<A>) failure;
     }
 
+
+    /**
+     * Decodes the named field of the object, placing any errors under the field's name.
+     */
     public static <A> DecodeResult<A> decode(Json.JObject object, String name, DecodeJson<A> decoder) {
-        DecodeResult<A> result = getValue(object, name).flatMap(decoder::fromJson);
-        if (result.isFailure()) {
+        Option<Json.JValue> value = object.get(name);
+        DecodeResult<A> result = value.isDefined()
+                ? decoder.fromJson(value.get())
+                : DecodeResult.fail(DecodeError.MISSING, () -> String.format("%s not found in %s", name, object));
+        if (result instanceof Failure) {
             Option<A> defaultValue = decoder.defaultValue();
             if (defaultValue.isDefined()) {
-                result = DecodeResult.ok(defaultValue.get());
+                return DecodeResult.ok(defaultValue.get());
             }
+            return failure(((Failure) result).within(name));
         }
         return result;
     }
@@ -154,10 +180,32 @@ public abstract class DecodeResult<A> {
     }
 
     public final static class Failure extends DecodeResult<Object> {
-        public final String message;
+        public final List<DecodeError> errors;
 
         public Failure(String message) {
-            this.message = message;
+            this(List.of(DecodeError.of(DecodeError.INVALID, () -> message)));
+        }
+
+        public Failure(List<DecodeError> errors) {
+            if (errors.isEmpty()) {
+                throw new IllegalArgumentException("A failure needs at least one error");
+            }
+            this.errors = errors;
+        }
+
+        /**
+         * Renders every error, each prefixed by its path unless it is at the decoded value itself.
+         */
+        public String getMessage() {
+            return errors.mkString(", ");
+        }
+
+        Failure within(String name) {
+            return new Failure(errors.map(error -> error.within(name)));
+        }
+
+        Failure within(int index) {
+            return new Failure(errors.map(error -> error.within(index)));
         }
 
         @Override
@@ -172,7 +220,7 @@ public abstract class DecodeResult<A> {
 
         @Override
         public String toString() {
-            return String.format("Failure(message='%s')", message);
+            return String.format("Failure(message='%s')", getMessage());
         }
     }
 
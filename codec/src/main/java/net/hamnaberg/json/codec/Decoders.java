@@ -14,8 +14,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 public abstract class Decoders {
@@ -34,6 +37,17 @@ public abstract class Decoders {
     public static final DecodeJson<ZonedDateTime> DISODateTimeUTC = zonedDateTimeDecoder(DateTimeFormatter.ISO_DATE_TIME.withZone(ZoneOffset.UTC));
     public static final DecodeJson<Instant> DISOInstantUTC = instantDecoder(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC));
 
+    /**
+     * Parses the common {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z} and {@code ±HH:mm} offset shapes without a formatter,
+     * falling back to {@link DateTimeFormatter#ISO_DATE_TIME} for anything else.
+     */
+    public static final DecodeJson<ZonedDateTime> DFastISODateTimeUTC = DString.tryMap(s -> Try.of(() -> IsoDates.parseZonedDateTime(s)));
+    /**
+     * Parses the common {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z} and {@code ±HH:mm} offset shapes without a formatter,
+     * falling back to {@link DateTimeFormatter#ISO_INSTANT} for anything else.
+     */
+    public static final DecodeJson<Instant> DFastISOInstantUTC = DString.tryMap(s -> Try.of(() -> IsoDates.parseInstant(s)));
+
     public static DecodeJson<ZonedDateTime> zonedDateTimeDecoder(DateTimeFormatter formatter) {
         return DString.tryMap(s -> Try.of(() -> ZonedDateTime.parse(s, formatter)));
     }
@@ -42,14 +56,97 @@ public abstract class Decoders {
         return DString.tryMap(s -> Try.of(() -> formatter.parse(s, Instant::from)));
     }
 
+    /**
+     * Fails with the errors of every element that failed, placed under the element's index.
+     */
     public static <A> DecodeJson<List<A>> listDecoder(DecodeJson<A> decoder) {
-        return value -> DecodeResult.sequence(value.asJsonArrayOrEmpty().mapToList(decoder::fromJson));
+        return value -> {
+            List<A> list = List.empty();
+            java.util.List<DecodeError> errors = null;
+            int index = 0;
+            for (Json.JValue element : value.asJsonArrayOrEmpty()) {
+                DecodeResult<A> result = decoder.fromJson(element);
+                if (result instanceof DecodeResult.Failure) {
+                    if (errors == null) {
+                        errors = new ArrayList<>();
+                    }
+                    for (DecodeError error : ((DecodeResult.Failure) result).errors) {
+                        errors.add(error.within(index));
+                    }
+                }
+                else if (errors == null) {
+                    list = list.prepend(((DecodeResult.Ok<A>) result).value);
+                }
+                index++;
+            }
+            return errors == null ? DecodeResult.ok(list.reverse()) : DecodeResult.fail(List.ofAll(errors));
+        };
+    }
+
+    /**
+     * Decodes arrays of at least {@code threshold} elements in chunks of that size on the common fork-join pool.
+     */
+    public static <A> DecodeJson<List<A>> parallelListDecoder(DecodeJson<A> decoder, int threshold) {
+        return parallelListDecoder(decoder, threshold, ForkJoinPool.commonPool());
+    }
+
+    public static <A> DecodeJson<List<A>> parallelListDecoder(DecodeJson<A> decoder, int threshold, Executor executor) {
+        return new ParallelListDecoder<>(decoder, threshold, executor);
     }
 
     public static <A> DecodeJson<java.util.List<A>> javaListDecoder(DecodeJson<A> codec) {
         return listDecoder(codec).map(List::toJavaList);
     }
 
+    public static DecodeJson<int[]> intArrayDecoder() {
+        return value -> {
+            List<Json.JValue> elements = value.asJsonArrayOrEmpty().value;
+            int[] array = new int[elements.length()];
+            int i = 0;
+            for (Json.JValue element : elements) {
+                if (!(element instanceof Json.JNumber)) {
+                    return notANumber(i);
+                }
+                array[i++] = ((Json.JNumber) element).asInt();
+            }
+            return DecodeResult.ok(array);
+        };
+    }
+
+    public static DecodeJson<long[]> longArrayDecoder() {
+        return value -> {
+            List<Json.JValue> elements = value.asJsonArrayOrEmpty().value;
+            long[] array = new long[elements.length()];
+            int i = 0;
+            for (Json.JValue element : elements) {
+                if (!(element instanceof Json.JNumber)) {
+                    return notANumber(i);
+                }
+                array[i++] = ((Json.JNumber) element).asLong();
+            }
+            return DecodeResult.ok(array);
+        };
+    }
+
+    public static DecodeJson<double[]> doubleArrayDecoder() {
+        return value -> {
+            List<Json.JValue> elements = value.asJsonArrayOrEmpty().value;
+            double[] array = new double[elements.length()];
+            int i = 0;
+            for (Json.JValue element : elements) {
+                if (!(element instanceof Json.JNumber)) {
+                    return notANumber(i);
+                }
+                array[i++] = ((Json.JNumber) element).asDouble();
+            }
+            return DecodeResult.ok(array);
+        };
+    }
+
+    private static <A> DecodeResult<A> notANumber(int index) {
+        return DecodeResult.fail(List.of(DecodeError.of(DecodeError.INVALID, () -> "Not a number").within(index)));
+    }
+
     public static <A> DecodeJson<Option<A>> OptionDecoder(DecodeJson<A> codec) {
         DecodeJson<Option<A>> decoder = value -> value.isNull() ? DecodeResult.ok(Option.none()) : DecodeResult.ok(codec.fromJson(value).toOption());
         return decoder.withDefaultValue(Option.none());
@@ -83,569 +180,182 @@ public abstract class Decoders {
     }
 
 
+    @SuppressWarnings("unchecked")
     public static <TT, A> DecodeJson<TT> decode(FieldDecoder<A> f1, Function1<A, TT> func) {
-        return (value) -> {
-            DecodeResult<A> oa = DecodeResult.decode(value.asJsonObjectOrEmpty(), f1.name, f1.decoder);
-            return oa.flatMap(a -> DecodeResult.ok(func.apply(a)));
-        };
+        FieldDecoder<?>[] fields = {f1};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A) v[0]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, Function2<A1, A2, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 ->  DecodeResult.ok(func.apply(v1, v2))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, Function3<A1, A2, A3, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 ->  DecodeResult.ok(func.apply(v1, v2, v3)))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, Function4<A1, A2, A3, A4, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, Function5<A1, A2, A3, A4, A5, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5)))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, Function6<A1, A2, A3, A4, A5, A6, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, Function7<A1, A2, A3, A4, A5, A6, A7, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7)))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, Function8<A1, A2, A3, A4, A5, A6, A7, A8, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, F9<A1, A2, A3, A4, A5, A6, A7, A8, A9, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9)))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, F10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, F11<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11)))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, F12<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, F13<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13)))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, F14<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, F15<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15)))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, F16<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, F17<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17)))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, F18<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, F19<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19)))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, F20<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, F21<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21)))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, F22<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, FieldDecoder<A23> fd23, F23<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            DecodeResult<A23> d23 = DecodeResult.decode(object, fd23.name, fd23.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 -> d23.flatMap(v23 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, v23)))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22, fd23};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21], (A23) v[22]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, FieldDecoder<A23> fd23, FieldDecoder<A24> fd24, F24<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            DecodeResult<A23> d23 = DecodeResult.decode(object, fd23.name, fd23.decoder);
-            DecodeResult<A24> d24 = DecodeResult.decode(object, fd24.name, fd24.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 -> d23.flatMap(v23 -> d24.flatMap(v24 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, v23, v24))))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22, fd23, fd24};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21], (A23) v[22], (A24) v[23]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, FieldDecoder<A23> fd23, FieldDecoder<A24> fd24, FieldDecoder<A25> fd25, F25<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            DecodeResult<A23> d23 = DecodeResult.decode(object, fd23.name, fd23.decoder);
-            DecodeResult<A24> d24 = DecodeResult.decode(object, fd24.name, fd24.decoder);
-            DecodeResult<A25> d25 = DecodeResult.decode(object, fd25.name, fd25.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 -> d23.flatMap(v23 -> d24.flatMap(v24 -> d25.flatMap(v25 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, v23, v24, v25)))))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22, fd23, fd24, fd25};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21], (A23) v[22], (A24) v[23], (A25) v[24]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25, A26> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, FieldDecoder<A23> fd23, FieldDecoder<A24> fd24, FieldDecoder<A25> fd25, FieldDecoder<A26> fd26, F26<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25, A26, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            DecodeResult<A23> d23 = DecodeResult.decode(object, fd23.name, fd23.decoder);
-            DecodeResult<A24> d24 = DecodeResult.decode(object, fd24.name, fd24.decoder);
-            DecodeResult<A25> d25 = DecodeResult.decode(object, fd25.name, fd25.decoder);
-            DecodeResult<A26> d26 = DecodeResult.decode(object, fd26.name, fd26.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 -> d23.flatMap(v23 -> d24.flatMap(v24 -> d25.flatMap(v25 -> d26.flatMap(v26 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, v23, v24, v25, v26))))))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22, fd23, fd24, fd25, fd26};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21], (A23) v[22], (A24) v[23], (A25) v[24], (A26) v[25]));
     }
 
+    @SuppressWarnings("unchecked")
     public static <TT, A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25, A26, A27> DecodeJson<TT> decode(FieldDecoder<A1> fd1, FieldDecoder<A2> fd2, FieldDecoder<A3> fd3, FieldDecoder<A4> fd4, FieldDecoder<A5> fd5, FieldDecoder<A6> fd6, FieldDecoder<A7> fd7, FieldDecoder<A8> fd8, FieldDecoder<A9> fd9, FieldDecoder<A10> fd10, FieldDecoder<A11> fd11, FieldDecoder<A12> fd12, FieldDecoder<A13> fd13, FieldDecoder<A14> fd14, FieldDecoder<A15> fd15, FieldDecoder<A16> fd16, FieldDecoder<A17> fd17, FieldDecoder<A18> fd18, FieldDecoder<A19> fd19, FieldDecoder<A20> fd20, FieldDecoder<A21> fd21, FieldDecoder<A22> fd22, FieldDecoder<A23> fd23, FieldDecoder<A24> fd24, FieldDecoder<A25> fd25, FieldDecoder<A26> fd26, FieldDecoder<A27> fd27, F27<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, A11, A12, A13, A14, A15, A16, A17, A18, A19, A20, A21, A22, A23, A24, A25, A26, A27, TT> func) {
-        return (value) -> {
-            Json.JObject object = value.asJsonObjectOrEmpty();
-            DecodeResult<A1> d1 = DecodeResult.decode(object, fd1.name, fd1.decoder);
-            DecodeResult<A2> d2 = DecodeResult.decode(object, fd2.name, fd2.decoder);
-            DecodeResult<A3> d3 = DecodeResult.decode(object, fd3.name, fd3.decoder);
-            DecodeResult<A4> d4 = DecodeResult.decode(object, fd4.name, fd4.decoder);
-            DecodeResult<A5> d5 = DecodeResult.decode(object, fd5.name, fd5.decoder);
-            DecodeResult<A6> d6 = DecodeResult.decode(object, fd6.name, fd6.decoder);
-            DecodeResult<A7> d7 = DecodeResult.decode(object, fd7.name, fd7.decoder);
-            DecodeResult<A8> d8 = DecodeResult.decode(object, fd8.name, fd8.decoder);
-            DecodeResult<A9> d9 = DecodeResult.decode(object, fd9.name, fd9.decoder);
-            DecodeResult<A10> d10 = DecodeResult.decode(object, fd10.name, fd10.decoder);
-            DecodeResult<A11> d11 = DecodeResult.decode(object, fd11.name, fd11.decoder);
-            DecodeResult<A12> d12 = DecodeResult.decode(object, fd12.name, fd12.decoder);
-            DecodeResult<A13> d13 = DecodeResult.decode(object, fd13.name, fd13.decoder);
-            DecodeResult<A14> d14 = DecodeResult.decode(object, fd14.name, fd14.decoder);
-            DecodeResult<A15> d15 = DecodeResult.decode(object, fd15.name, fd15.decoder);
-            DecodeResult<A16> d16 = DecodeResult.decode(object, fd16.name, fd16.decoder);
-            DecodeResult<A17> d17 = DecodeResult.decode(object, fd17.name, fd17.decoder);
-            DecodeResult<A18> d18 = DecodeResult.decode(object, fd18.name, fd18.decoder);
-            DecodeResult<A19> d19 = DecodeResult.decode(object, fd19.name, fd19.decoder);
-            DecodeResult<A20> d20 = DecodeResult.decode(object, fd20.name, fd20.decoder);
-            DecodeResult<A21> d21 = DecodeResult.decode(object, fd21.name, fd21.decoder);
-            DecodeResult<A22> d22 = DecodeResult.decode(object, fd22.name, fd22.decoder);
-            DecodeResult<A23> d23 = DecodeResult.decode(object, fd23.name, fd23.decoder);
-            DecodeResult<A24> d24 = DecodeResult.decode(object, fd24.name, fd24.decoder);
-            DecodeResult<A25> d25 = DecodeResult.decode(object, fd25.name, fd25.decoder);
-            DecodeResult<A26> d26 = DecodeResult.decode(object, fd26.name, fd26.decoder);
-            DecodeResult<A27> d27 = DecodeResult.decode(object, fd27.name, fd27.decoder);
-            return d1.flatMap(v1 -> d2.flatMap(v2 -> d3.flatMap(v3 -> d4.flatMap(v4 -> d5.flatMap(v5 -> d6.flatMap(v6 -> d7.flatMap(v7 -> d8.flatMap(v8 -> d9.flatMap(v9 -> d10.flatMap(v10 -> d11.flatMap(v11 -> d12.flatMap(v12 -> d13.flatMap(v13 -> d14.flatMap(v14 -> d15.flatMap(v15 -> d16.flatMap(v16 -> d17.flatMap(v17 -> d18.flatMap(v18 -> d19.flatMap(v19 -> d20.flatMap(v20 -> d21.flatMap(v21 -> d22.flatMap(v22 -> d23.flatMap(v23 -> d24.flatMap(v24 -> d25.flatMap(v25 -> d26.flatMap(v26 -> d27.flatMap(v27 ->  DecodeResult.ok(func.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, v23, v24, v25, v26, v27)))))))))))))))))))))))))))));
-        };
+        FieldDecoder<?>[] fields = {fd1, fd2, fd3, fd4, fd5, fd6, fd7, fd8, fd9, fd10, fd11, fd12, fd13, fd14, fd15, fd16, fd17, fd18, fd19, fd20, fd21, fd22, fd23, fd24, fd25, fd26, fd27};
+        return (value) -> decodeFields(value, fields).map(v -> func.apply((A1) v[0], (A2) v[1], (A3) v[2], (A4) v[3], (A5) v[4], (A6) v[5], (A7) v[6], (A8) v[7], (A9) v[8], (A10) v[9], (A11) v[10], (A12) v[11], (A13) v[12], (A14) v[13], (A15) v[14], (A16) v[15], (A17) v[16], (A18) v[17], (A19) v[18], (A20) v[19], (A21) v[20], (A22) v[21], (A23) v[22], (A24) v[23], (A25) v[24], (A26) v[25], (A27) v[26]));
+    }
+
+    /**
+     * Decodes every field, failing with the errors of all fields that failed.
+     */
+    private static DecodeResult<Object[]> decodeFields(Json.JValue value, FieldDecoder<?>[] fields) {
+        Json.JObject object = value.asJsonObjectOrEmpty();
+        Object[] values = new Object[fields.length];
+        List<DecodeError> errors = List.empty();
+        for (int i = 0; i < fields.length; i++) {
+            Object decoded = fields[i].decodeField(object);
+            if (decoded instanceof FieldDecoder.Failed) {
+                errors = errors.appendAll(((FieldDecoder.Failed) decoded).failure.errors);
+            }
+            values[i] = decoded;
+        }
+        return errors.isEmpty() ? DecodeResult.ok(values) : DecodeResult.fail(errors);
     }
 }
@@ -0,0 +1,27 @@
+package net.hamnaberg.json.codec;
+
+import net.hamnaberg.json.Json;
+
+/**
+ * A {@link JsonCodec} for doubles with unboxed variants of {@link #fromJson} and {@link #toJson}.
+ */
+public interface DoubleCodec extends JsonCodec<Double> {
+    /**
+     * Decodes any json number.
+     *
+     * @throws java.util.NoSuchElementException if the value is not a number
+     */
+    double decodeDouble(Json.JValue value);
+
+    Json.JValue encodeDouble(double value);
+
+    @Override
+    default DecodeResult<Double> fromJson(Json.JValue value) {
+        return value instanceof Json.JNumber ? DecodeResult.ok(decodeDouble(value)) : DecodeResult.fail("No value found");
+    }
+
+    @Override
+    default Json.JValue toJson(Double value) {
+        return encodeDouble(value);
+    }
+}
@@ -13,6 +13,7 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -33,6 +34,15 @@ public abstract class Encoders {
     public static final EncodeJson<ZonedDateTime> EISODateTimeUTC = zonedDateTimeEncoder(DateTimeFormatter.ISO_DATE_TIME.withZone(ZoneOffset.UTC));
     public static final EncodeJson<Instant> EISOInstantUTC = instantEncoder(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC));
 
+    /**
+     * Formats the same as {@link #EISODateTimeUTC}, without a formatter for years 0 to 9999.
+     */
+    public static final EncodeJson<ZonedDateTime> EFastISODateTimeUTC = EString.contramap(IsoDates::formatZonedDateTime);
+    /**
+     * Formats the same as {@link #EISOInstantUTC}, without a formatter for years 0 to 9999.
+     */
+    public static final EncodeJson<Instant> EFastISOInstantUTC = EString.contramap(IsoDates::formatInstant);
+
     public static EncodeJson<ZonedDateTime> zonedDateTimeEncoder(DateTimeFormatter formatter) {
         return EString.contramap(formatter::format);
     }
@@ -49,6 +59,36 @@ public abstract class Encoders {
         return listEncoder(encoder).contramap(List::ofAll);
     }
 
+    public static EncodeJson<int[]> intArrayEncoder() {
+        return value -> {
+            ArrayList<Json.JValue> elements = new ArrayList<>(value.length);
+            for (int element : value) {
+                elements.add(Json.jNumber(element));
+            }
+            return Json.jArray(elements);
+        };
+    }
+
+    public static EncodeJson<long[]> longArrayEncoder() {
+        return value -> {
+            ArrayList<Json.JValue> elements = new ArrayList<>(value.length);
+            for (long element : value) {
+                elements.add(Json.jNumber(element));
+            }
+            return Json.jArray(elements);
+        };
+    }
+
+    public static EncodeJson<double[]> doubleArrayEncoder() {
+        return value -> {
+            ArrayList<Json.JValue> elements = new ArrayList<>(value.length);
+            for (double element : value) {
+                elements.add(Json.jNumber(element));
+            }
+            return Json.jArray(elements);
+        };
+    }
+
     public static <A> EncodeJson<Option<A>> OptionEncoder(EncodeJson<A> encoder) {
         return value -> value.map(encoder::toJson).getOrElse(Json.jNull());
     }
@@ -22,6 +22,30 @@ public abstract class FieldDecoder<A> {
         return String.format("FieldDecoder(%s)", name);
     }
 
+    /**
+     * Decodes this field of the object, without wrapping a decoded value in a {@link DecodeResult}.
+     * Fields of an {@link IntCodec}, {@link LongCodec} or {@link DoubleCodec} are read straight from the number.
+     * They are still boxed once, as the decoded fields are collected in an {@code Object[]} for the builder's generic function.
+     *
+     * @return the decoded value, or a {@link Failed} holding the failure
+     */
+    Object decodeField(Json.JObject object) {
+        Option<Json.JValue> value = object.get(name);
+        if (value.isDefined() && value.get() instanceof Json.JNumber) {
+            if (decoder instanceof IntCodec) {
+                return ((IntCodec) decoder).decodeInt(value.get());
+            }
+            if (decoder instanceof LongCodec) {
+                return ((LongCodec) decoder).decodeLong(value.get());
+            }
+            if (decoder instanceof DoubleCodec) {
+                return ((DoubleCodec) decoder).decodeDouble(value.get());
+            }
+        }
+        DecodeResult<A> result = DecodeResult.decode(object, name, decoder);
+        return result instanceof DecodeResult.Ok ? ((DecodeResult.Ok<A>) result).value : new Failed((DecodeResult.Failure) result);
+    }
+
     public <B> FieldDecoder<B> map(Function<A, B> f) {
         return typedFieldOf(name, decoder.map(f), Option.none());
     }
@@ -48,15 +72,15 @@ public abstract class FieldDecoder<A> {
     }
 
     public static FieldDecoder<Integer> TInt(String name) {
-        return typedFieldOf(name, Decoders.DInt, Option.none());
+        return typedFieldOf(name, Codecs.CInt, Option.none());
     }
 
     public static FieldDecoder<Double> TDouble(String name) {
-        return typedFieldOf(name, Decoders.DDouble, Option.none());
+        return typedFieldOf(name, Codecs.CDouble, Option.none());
     }
 
     public static FieldDecoder<Long> TLong(String name) {
-        return typedFieldOf(name, Decoders.DLong, Option.none());
+        return typedFieldOf(name, Codecs.CLong, Option.none());
     }
 
     public static FieldDecoder<Boolean> TBoolean(String name) {
@@ -83,6 +107,14 @@ public abstract class FieldDecoder<A> {
         return new FieldDecoder<B>(name, defaultValue.map(decoder::withDefaultValue).getOrElse(decoder)) {};
     }
 
+    static final class Failed {
+        final DecodeResult.Failure failure;
+
+        private Failed(DecodeResult.Failure failure) {
+            this.failure = failure;
+        }
+    }
+
     public static class TJArrayField extends FieldDecoder<Json.JArray> {
         public TJArrayField(String name) {
             super(name, v -> DecodeResult.fromOption(v.asJsonArray()));
@@ -0,0 +1,27 @@
+package net.hamnaberg.json.codec;
+
+import net.hamnaberg.json.Json;
+
+/**
+ * A {@link JsonCodec} for ints with unboxed variants of {@link #fromJson} and {@link #toJson}.
+ */
+public interface IntCodec extends JsonCodec<Integer> {
+    /**
+     * Decodes any json number.
+     *
+     * @throws java.util.NoSuchElementException if the value is not a number
+     */
+    int decodeInt(Json.JValue value);
+
+    Json.JValue encodeInt(int value);
+
+    @Override
+    default DecodeResult<Integer> fromJson(Json.JValue value) {
+        return value instanceof Json.JNumber ? DecodeResult.ok(decodeInt(value)) : DecodeResult.fail("No value found");
+    }
+
+    @Override
+    default Json.JValue toJson(Integer value) {
+        return encodeInt(value);
+    }
+}
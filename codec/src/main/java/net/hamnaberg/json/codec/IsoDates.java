@@ -0,0 +1,192 @@
+package net.hamnaberg.json.codec;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parses and formats the common fixed shape of ISO-8601 timestamps, {@code yyyy-MM-ddTHH:mm:ss[.fraction]} followed by
+ * {@code Z} or {@code ±HH:mm}, by hand. Anything else goes through the {@link DateTimeFormatter}s
+ * {@link Decoders#DISODateTimeUTC} and {@link Decoders#DISOInstantUTC} use.
+ * <p>
+ * Instants are only parsed by hand when they end in {@code Z}, as whether {@link DateTimeFormatter#ISO_INSTANT}
+ * accepts an offset depends on the Java version.
+ */
+final class IsoDates {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter INSTANT = DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC);
+    private static final int[] POWERS = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+
+    private IsoDates() {
+    }
+
+    static ZonedDateTime parseZonedDateTime(String s) {
+        Fields fields = Fields.parse(s);
+        if (fields == null) {
+            return ZonedDateTime.parse(s, DATE_TIME);
+        }
+        return ZonedDateTime.ofInstant(
+                LocalDateTime.of(fields.year, fields.month, fields.day, fields.hour, fields.minute, fields.second, fields.nano),
+                fields.offset,
+                ZoneOffset.UTC
+        );
+    }
+
+    static Instant parseInstant(String s) {
+        Fields fields = s.endsWith("Z") ? Fields.parse(s) : null;
+        if (fields == null) {
+            return INSTANT.parse(s, Instant::from);
+        }
+        long epochDay = LocalDate.of(fields.year, fields.month, fields.day).toEpochDay();
+        long seconds = epochDay * 86400 + fields.hour * 3600 + fields.minute * 60 + fields.second - fields.offset.getTotalSeconds();
+        return Instant.ofEpochSecond(seconds, fields.nano);
+    }
+
+    /**
+     * Formats as {@link DateTimeFormatter#ISO_DATE_TIME} in UTC does, with trailing zeros of the fraction dropped.
+     */
+    static String formatZonedDateTime(ZonedDateTime value) {
+        LocalDateTime utc = LocalDateTime.ofEpochSecond(value.toEpochSecond(), value.getNano(), ZoneOffset.UTC);
+        if (utc.getYear() < 0 || utc.getYear() > 9999) {
+            return DATE_TIME.format(value);
+        }
+        int nano = utc.getNano();
+        int digits = 9;
+        while (nano != 0 && nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        return format(utc, nano, nano == 0 ? 0 : digits);
+    }
+
+    /**
+     * Formats as {@link DateTimeFormatter#ISO_INSTANT} does, with the fraction in groups of three digits.
+     */
+    static String formatInstant(Instant value) {
+        LocalDateTime utc = LocalDateTime.ofEpochSecond(value.getEpochSecond(), value.getNano(), ZoneOffset.UTC);
+        if (utc.getYear() < 0 || utc.getYear() > 9999) {
+            return INSTANT.format(value);
+        }
+        int nano = utc.getNano();
+        int digits = 9;
+        while (nano != 0 && nano % 1000 == 0) {
+            nano /= 1000;
+            digits -= 3;
+        }
+        return format(utc, nano, nano == 0 ? 0 : digits);
+    }
+
+    private static String format(LocalDateTime utc, int fraction, int digits) {
+        char[] chars = new char[digits == 0 ? 20 : 21 + digits];
+        put(chars, 0, utc.getYear(), 4);
+        chars[4] = '-';
+        put(chars, 5, utc.getMonthValue(), 2);
+        chars[7] = '-';
+        put(chars, 8, utc.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        put(chars, 11, utc.getHour(), 2);
+        chars[13] = ':';
+        put(chars, 14, utc.getMinute(), 2);
+        chars[16] = ':';
+        put(chars, 17, utc.getSecond(), 2);
+        if (digits > 0) {
+            chars[19] = '.';
+            put(chars, 20, fraction, digits);
+        }
+        chars[chars.length - 1] = 'Z';
+        return new String(chars);
+    }
+
+    private static void put(char[] chars, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static final class Fields {
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int second;
+        private int nano;
+        private ZoneOffset offset;
+
+        /**
+         * @return the fields, or null if the string is not in the fixed shape, leaving it to the formatters
+         */
+        static Fields parse(String s) {
+            int length = s.length();
+            if (length < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':' || s.charAt(16) != ':') {
+                return null;
+            }
+            Fields fields = new Fields();
+            fields.year = digits(s, 0, 4);
+            fields.month = digits(s, 5, 2);
+            fields.day = digits(s, 8, 2);
+            fields.hour = digits(s, 11, 2);
+            fields.minute = digits(s, 14, 2);
+            fields.second = digits(s, 17, 2);
+            if (fields.year < 0 || fields.month < 0 || fields.day < 0 || fields.hour < 0 || fields.hour > 23 || fields.minute < 0 || fields.minute > 59 || fields.second < 0 || fields.second > 59) {
+                return null;
+            }
+            int position = 19;
+            if (s.charAt(position) == '.') {
+                int end = position + 1;
+                while (end < length && end - position <= 9 && isDigit(s.charAt(end))) {
+                    end++;
+                }
+                int count = end - position - 1;
+                if (count == 0 || end < length && isDigit(s.charAt(end))) {
+                    return null;
+                }
+                fields.nano = digits(s, position + 1, count) * POWERS[9 - count];
+                position = end;
+            }
+            if (position == length - 1 && s.charAt(position) == 'Z') {
+                fields.offset = ZoneOffset.UTC;
+                return fields;
+            }
+            if (position == length - 6 && (s.charAt(position) == '+' || s.charAt(position) == '-') && s.charAt(position + 3) == ':') {
+                int hours = digits(s, position + 1, 2);
+                int minutes = digits(s, position + 4, 2);
+                if (hours < 0 || minutes < 0 || minutes > 59) {
+                    return null;
+                }
+                int sign = s.charAt(position) == '-' ? -1 : 1;
+                try {
+                    fields.offset = ZoneOffset.ofHoursMinutes(sign * hours, sign * minutes);
+                } catch (DateTimeException e) {
+                    return null;
+                }
+                return fields;
+            }
+            return null;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        /**
+         * @return the value of the digits, or -1 if any character is not an ASCII digit
+         */
+        private static int digits(String s, int offset, int count) {
+            int value = 0;
+            for (int i = offset; i < offset + count; i++) {
+                int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+}
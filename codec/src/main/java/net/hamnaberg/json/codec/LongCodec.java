@@ -0,0 +1,27 @@
+package net.hamnaberg.json.codec;
+
+import net.hamnaberg.json.Json;
+
+/**
+ * A {@link JsonCodec} for longs with unboxed variants of {@link #fromJson} and {@link #toJson}.
+ */
+public interface LongCodec extends JsonCodec<Long> {
+    /**
+     * Decodes any json number.
+     *
+     * @throws java.util.NoSuchElementException if the value is not a number
+     */
+    long decodeLong(Json.JValue value);
+
+    Json.JValue encodeLong(long value);
+
+    @Override
+    default DecodeResult<Long> fromJson(Json.JValue value) {
+        return value instanceof Json.JNumber ? DecodeResult.ok(decodeLong(value)) : DecodeResult.fail("No value found");
+    }
+
+    @Override
+    default Json.JValue toJson(Long value) {
+        return encodeLong(value);
+    }
+}
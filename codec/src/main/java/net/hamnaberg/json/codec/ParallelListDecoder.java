@@ -0,0 +1,92 @@
+package net.hamnaberg.json.codec;
+
+import javaslang.collection.List;
+import net.hamnaberg.json.Json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Decodes arrays of at least {@code threshold} elements in chunks of {@code threshold} elements on an executor.
+ * Smaller arrays are decoded as {@link Decoders#listDecoder(DecodeJson)} does.
+ * <p>
+ * Every chunk is decoded to completion, so a failure reports the errors of all elements in index order,
+ * as {@link Decoders#listDecoder(DecodeJson)} does.
+ */
+final class ParallelListDecoder<A> implements DecodeJson<List<A>> {
+    private final DecodeJson<A> decoder;
+    private final int threshold;
+    private final Executor executor;
+
+    ParallelListDecoder(DecodeJson<A> decoder, int threshold, Executor executor) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(String.format("Threshold must be positive, was %s", threshold));
+        }
+        this.decoder = decoder;
+        this.threshold = threshold;
+        this.executor = executor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DecodeResult<List<A>> fromJson(Json.JValue value) {
+        List<Json.JValue> list = value.asJsonArrayOrEmpty().value;
+        if (list.length() < threshold) {
+            return Decoders.listDecoder(decoder).fromJson(value);
+        }
+        Json.JValue[] elements = list.toJavaArray(Json.JValue.class);
+        Object[] values = new Object[elements.length];
+        CompletableFuture<java.util.List<DecodeError>>[] chunks = new CompletableFuture[(elements.length + threshold - 1) / threshold];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int from = chunk * threshold;
+            int to = Math.min(elements.length, from + threshold);
+            chunks[chunk] = CompletableFuture.supplyAsync(() -> decodeChunk(elements, values, from, to), executor);
+        }
+        java.util.List<DecodeError> errors = new ArrayList<>();
+        try {
+            for (CompletableFuture<java.util.List<DecodeError>> chunk : chunks) {
+                errors.addAll(chunk.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        if (!errors.isEmpty()) {
+            return DecodeResult.fail(List.ofAll(errors));
+        }
+        return DecodeResult.ok(List.ofAll(Arrays.asList((A[]) values)));
+    }
+
+    /**
+     * @return the errors of the elements that failed, located at their index
+     */
+    private java.util.List<DecodeError> decodeChunk(Json.JValue[] elements, Object[] values, int from, int to) {
+        java.util.List<DecodeError> errors = Collections.emptyList();
+        for (int i = from; i < to; i++) {
+            DecodeResult<A> result = decoder.fromJson(elements[i]);
+            if (result instanceof DecodeResult.Failure) {
+                if (errors.isEmpty()) {
+                    errors = new ArrayList<>();
+                }
+                for (DecodeError error : ((DecodeResult.Failure) result).errors) {
+                    errors.add(error.within(i));
+                }
+            }
+            else {
+                values[i] = ((DecodeResult.Ok<A>) result).value;
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ParallelListDecoder(%s, %s)", decoder, threshold);
+    }
+}
@@ -0,0 +1,149 @@
+package net.hamnaberg.json.codec;
+
+import javaslang.collection.List;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Codec for a sum type encoded as objects with a discriminator field naming the alternative,
+ * like {@code {"type":"click", ...}}.
+ * <p>
+ * Decoding reads the discriminator once and looks up the alternative's codec, instead of trying each alternative
+ * in turn as {@link DecodeJson#or(DecodeJson)} does. Encoding looks up the tag by the class of the value, see
+ * {@link #with(String, Class, JsonCodec)}, and adds the discriminator to the object the alternative's codec produced.
+ */
+public final class TaggedUnionCodec<A> implements JsonCodec<A> {
+    private final String discriminator;
+    private final HashMap<String, JsonCodec<A>> codecs;
+    private final HashMap<String, Class<?>> types;
+    private final HashMap<Class<?>, String> tags;
+    private final ConcurrentHashMap<Class<?>, String> resolved = new ConcurrentHashMap<>();
+
+    private TaggedUnionCodec(String discriminator, HashMap<String, JsonCodec<A>> codecs, HashMap<String, Class<?>> types, HashMap<Class<?>, String> tags) {
+        this.discriminator = discriminator;
+        this.codecs = codecs;
+        this.types = types;
+        this.tags = tags;
+    }
+
+    static <A> TaggedUnionCodec<A> of(String discriminator) {
+        return new TaggedUnionCodec<>(discriminator, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Decodes objects tagged with {@code tag} with the codec, and encodes values of the given class, or its subtypes, with it.
+     * The codec must encode values to objects.
+     */
+    @SuppressWarnings("unchecked")
+    public <B extends A> TaggedUnionCodec<A> with(String tag, Class<B> type, JsonCodec<B> codec) {
+        if (codecs.containsKey(tag)) {
+            throw new IllegalArgumentException(String.format("Tag '%s' is already registered", tag));
+        }
+        HashMap<String, JsonCodec<A>> codecsCopy = new HashMap<>(codecs);
+        codecsCopy.put(tag, (JsonCodec<A>) codec);
+        HashMap<String, Class<?>> typesCopy = new HashMap<>(types);
+        typesCopy.put(tag, type);
+        HashMap<Class<?>, String> tagsCopy = new HashMap<>(tags);
+        tagsCopy.put(type, tag);
+        return new TaggedUnionCodec<>(discriminator, codecsCopy, typesCopy, tagsCopy);
+    }
+
+    /**
+     * Also encodes values of the given class, or its subtypes, as the alternative with the given tag.
+     * The class must be a subtype of the one the tag was registered with, as that is what its codec encodes.
+     */
+    public TaggedUnionCodec<A> withType(Class<? extends A> type, String tag) {
+        Class<?> codecType = types.get(tag);
+        if (codecType == null) {
+            throw new IllegalArgumentException(String.format("No codec for tag '%s'", tag));
+        }
+        if (!codecType.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(String.format("%s is not a %s, which the codec for tag '%s' encodes", type.getName(), codecType.getName(), tag));
+        }
+        HashMap<Class<?>, String> copy = new HashMap<>(tags);
+        copy.put(type, tag);
+        return new TaggedUnionCodec<>(discriminator, codecs, types, copy);
+    }
+
+    @Override
+    public DecodeResult<A> fromJson(Json.JValue value) {
+        Json.JObject object = value.asJsonObjectOrEmpty();
+        Option<Json.JValue> tagValue = object.get(discriminator);
+        if (tagValue.isEmpty()) {
+            return failAtDiscriminator(DecodeError.MISSING, () -> String.format("%s not found in %s", discriminator, object));
+        }
+        String tag = tagValue.get().asString().getOrElse((String) null);
+        JsonCodec<A> codec = tag == null ? null : codecs.get(tag);
+        if (codec == null) {
+            return failAtDiscriminator(DecodeError.INVALID, () -> String.format("Unknown %s %s", discriminator, tagValue.get()));
+        }
+        return codec.fromJson(object);
+    }
+
+    private DecodeResult<A> failAtDiscriminator(String code, Supplier<String> message) {
+        return DecodeResult.fail(List.of(DecodeError.of(code, message).within(discriminator)));
+    }
+
+    /**
+     * @throws IllegalArgumentException if no tag is registered for the class of the value,
+     * or the alternative's codec does not encode it to an object
+     */
+    @Override
+    public Json.JValue toJson(A value) {
+        String tag = tagOf(value.getClass());
+        if (tag == null) {
+            throw new IllegalArgumentException(String.format("No tag for %s", value.getClass().getName()));
+        }
+        Json.JValue json = codecs.get(tag).toJson(value);
+        if (!(json instanceof Json.JObject)) {
+            throw new IllegalArgumentException(String.format("The codec for tag '%s' encoded %s, which is not an object", tag, json));
+        }
+        return ((Json.JObject) json).put(discriminator, Json.jString(tag));
+    }
+
+    /**
+     * The tag of the closest registered superclass, or failing that, of the closest registered interface.
+     * Resolved tags are cached per class.
+     */
+    private String tagOf(Class<?> type) {
+        String tag = resolved.get(type);
+        if (tag == null) {
+            tag = resolve(type);
+            if (tag != null) {
+                resolved.put(type, tag);
+            }
+        }
+        return tag;
+    }
+
+    private String resolve(Class<?> type) {
+        ArrayDeque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            String tag = tags.get(c);
+            if (tag != null) {
+                return tag;
+            }
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> i = interfaces.poll();
+            String tag = tags.get(i);
+            if (tag != null) {
+                return tag;
+            }
+            interfaces.addAll(Arrays.asList(i.getInterfaces()));
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TaggedUnion(%s, %s)", discriminator, codecs.keySet());
+    }
+}
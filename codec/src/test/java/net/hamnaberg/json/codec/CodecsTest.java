@@ -4,7 +4,14 @@ import javaslang.*;
 import net.hamnaberg.json.Json;
 import org.junit.Test;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class CodecsTest {
 
@@ -167,4 +174,166 @@ public class CodecsTest {
         assertEquals(expectedTuple, codec.fromJsonUnsafe(expectedJson));
         assertEquals(expectedJson, codec.toJson(expectedTuple));
     }
+
+    @Test
+    public void fastIsoDatesMatchFormatters() throws Exception {
+        String[] inputs = {
+                "2017-03-04T05:06:07Z",
+                "2017-03-04T05:06:07.1Z",
+                "2017-03-04T05:06:07.123456Z",
+                "2017-03-04T05:06:07.123456789Z",
+                "2017-03-04T05:06:07+02:00",
+                "2017-03-04T05:06:07.5-09:30",
+                "2016-02-29T23:59:59.000Z",
+                "2017-03-04T05:06Z",
+                "2017-03-04T05:06:07Z[UTC]",
+                "2017-02-30T05:06:07Z",
+                "2020-01-01T10:75:00Z",
+                "2020-01-01T10:75:00+02:00",
+                "2020-01-01T24:00:00Z",
+                "2020-01-01T10:00:60Z",
+                "2017-03-04 05:06:07Z",
+                "not a date"
+        };
+        for (String input : inputs) {
+            Json.JString json = Json.jString(input);
+            assertEquals(input, Codecs.CISODateTimeUTC.fromJson(json).toOption(), Codecs.CFastISODateTimeUTC.fromJson(json).toOption());
+            assertEquals(input, Codecs.CISOInstantUTC.fromJson(json).toOption(), Codecs.CFastISOInstantUTC.fromJson(json).toOption());
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextInt(), i % 4 == 0 ? 0 : random.nextInt(1000000000) / (int) Math.pow(10, i % 9));
+            ZonedDateTime dateTime = instant.atZone(ZoneOffset.ofHours(i % 18));
+            assertEquals(Codecs.CISOInstantUTC.toJson(instant), Codecs.CFastISOInstantUTC.toJson(instant));
+            assertEquals(Codecs.CISODateTimeUTC.toJson(dateTime), Codecs.CFastISODateTimeUTC.toJson(dateTime));
+            assertEquals(instant, Codecs.CFastISOInstantUTC.fromJsonUnsafe(Codecs.CFastISOInstantUTC.toJson(instant)));
+        }
+    }
+
+    @Test
+    public void primitiveCodecs() throws Exception {
+        assertEquals(42, Codecs.CInt.decodeInt(Json.jNumber(42)));
+        assertEquals(42L, Codecs.CLong.decodeLong(Json.jNumber(42L)));
+        assertEquals(4.2, Codecs.CDouble.decodeDouble(Json.jNumber(4.2)), 0.0);
+        assertEquals(Json.jNumber(42), Codecs.CInt.encodeInt(42));
+        assertTrue(Codecs.CInt.fromJson(Json.jString("42")).isFailure());
+
+        JsonCodec<Tuple3<Integer, Long, Double>> codec = Codecs.of(
+                Codecs.CInt.field("i"),
+                Codecs.CLong.field("l"),
+                Codecs.CDouble.withDefaultValue(1.5).field("d")
+        );
+        Json.JObject json = Json.jObject(Json.tuple("i", Json.jNumber(1)), Json.tuple("l", Json.jNumber(2L)), Json.tuple("d", Json.jNumber(3.5)));
+        assertEquals(Tuple.of(1, 2L, 3.5), codec.fromJsonUnsafe(json));
+        assertEquals(Tuple.of(1, 2L, 1.5), codec.fromJsonUnsafe(json.remove("d")));
+        assertEquals("/l: No value found", ((DecodeResult.Failure) (DecodeResult<?>) codec.fromJson(json.put("l", Json.jString("2")))).getMessage());
+        assertTrue(codec.fromJson(json.remove("i")).isFailure());
+    }
+
+    @Test
+    public void primitiveArrayCodecs() throws Exception {
+        Json.JArray json = Json.jArray(Json.jNumber(1), Json.jNumber(2), Json.jNumber(3));
+        assertArrayEquals(new int[]{1, 2, 3}, Codecs.intArrayCodec().fromJsonUnsafe(json));
+        assertArrayEquals(new long[]{1, 2, 3}, Codecs.longArrayCodec().fromJsonUnsafe(json));
+        assertArrayEquals(new double[]{1, 2, 3}, Codecs.doubleArrayCodec().fromJsonUnsafe(json), 0.0);
+        assertEquals(json, Codecs.intArrayCodec().toJson(new int[]{1, 2, 3}));
+        assertEquals(Json.jArray(Json.jNumber(1.5)), Codecs.doubleArrayCodec().toJson(new double[]{1.5}));
+        DecodeResult.Failure notANumber = (DecodeResult.Failure) (DecodeResult<?>) Decoders.intArrayDecoder().fromJson(Json.jArray(Json.jNumber(1), Json.jString("2")));
+        assertEquals("/1: Not a number", notANumber.errors.head().toString());
+        assertEquals(DecodeError.INVALID, notANumber.errors.head().code);
+
+        JsonCodec<Tuple2<String, long[]>> codec = Codecs.of(Codecs.CString.field("name"), Codecs.longArrayCodec().field("values"));
+        assertArrayEquals(new long[0], codec.fromJsonUnsafe(Json.jObject("name", "empty"))._2);
+    }
+
+    private static final JsonCodec<Click> clickCodec = Codecs.objectCodec(o -> DecodeResult.decode(o, "x", Codecs.CInt).map(Click::new), c -> Json.jObject("x", c.x));
+    private static final JsonCodec<View> viewCodec = Codecs.objectCodec(o -> DecodeResult.decode(o, "page", Codecs.CString).map(View::new), v -> Json.jObject("page", v.page));
+
+    @Test
+    public void taggedUnion() throws Exception {
+        TaggedUnionCodec<Event> codec = Codecs.<Event>taggedUnion("type")
+                .with("click", Click.class, clickCodec)
+                .with("view", View.class, viewCodec);
+
+        Json.JObject click = Json.jObject(Json.tuple("x", Json.jNumber(3)), Json.tuple("type", Json.jString("click")));
+        assertEquals(3, ((Click) codec.fromJsonUnsafe(click)).x);
+        assertEquals("home", ((View) codec.fromJsonUnsafe(Json.jObject(Json.tuple("type", Json.jString("view")), Json.tuple("page", Json.jString("home"))))).page);
+        assertEquals(click, codec.toJson(new Click(3)));
+        assertEquals(click.put("x", 4), codec.toJson(new DoubleClick(4)));
+
+        DecodeResult.Failure unknown = (DecodeResult.Failure) (DecodeResult<?>) codec.fromJson(click.put("type", Json.jString("scroll")));
+        assertEquals("/type", unknown.errors.head().path().toString());
+        assertEquals(DecodeError.INVALID, unknown.errors.head().code);
+        DecodeResult.Failure missing = (DecodeResult.Failure) (DecodeResult<?>) codec.fromJson(click.remove("type"));
+        assertEquals(DecodeError.MISSING, missing.errors.head().code);
+    }
+
+    @Test
+    public void taggedUnionFindsTagsOfInterfaces() throws Exception {
+        JsonCodec<Pointing> pointing = Codecs.objectCodec(o -> DecodeResult.fail("Not decodable"), p -> Json.jObject("at", p.at()));
+        TaggedUnionCodec<Object> codec = Codecs.taggedUnion("type")
+                .with("pointing", Pointing.class, pointing);
+        assertEquals(Json.jObject(Json.tuple("at", Json.jNumber(5)), Json.tuple("type", Json.jString("pointing"))), codec.toJson(new Hover(5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void taggedUnionRejectsUnknownTypes() throws Exception {
+        Codecs.<Event>taggedUnion("type").toJson(new Click(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void taggedUnionRejectsTypesTheCodecDoesNotEncode() throws Exception {
+        Codecs.<Event>taggedUnion("type").with("click", Click.class, clickCodec).withType(View.class, "click");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void taggedUnionRejectsAlternativesEncodedAsNonObjects() throws Exception {
+        Codecs.<Object>taggedUnion("type").with("name", String.class, Codecs.CString).toJson("name");
+    }
+
+    static abstract class Event {
+    }
+
+    static class Click extends Event {
+        final int x;
+
+        Click(int x) {
+            this.x = x;
+        }
+    }
+
+    static final class View extends Event {
+        final String page;
+
+        View(String page) {
+            this.page = page;
+        }
+    }
+
+    static final class DoubleClick extends Click {
+        DoubleClick(int x) {
+            super(x);
+        }
+    }
+
+    interface Pointing {
+        int at();
+    }
+
+    interface Hovering extends Pointing {
+    }
+
+    static final class Hover implements Hovering {
+        private final int at;
+
+        Hover(int at) {
+            this.at = at;
+        }
+
+        @Override
+        public int at() {
+            return at;
+        }
+    }
 }
@@ -4,6 +4,9 @@ import javaslang.collection.List;
 import javaslang.control.Option;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static net.hamnaberg.json.Json.*;
 import static net.hamnaberg.json.codec.FieldDecoder.*;
 import static org.junit.Assert.assertEquals;
@@ -166,5 +169,48 @@ public class DecoderTest {
                     '}';
         }
     }
-}
 
+    @Test
+    public void parallelListDecoderMatchesListDecoder() {
+        JArray numbers = jArray(List.range(0, 10000).map(i -> (JValue) jNumber(i)));
+        DecodeJson<List<Integer>> parallel = Decoders.parallelListDecoder(Decoders.DInt, 1000);
+        assertEquals(Decoders.listDecoder(Decoders.DInt).fromJson(numbers).unsafeGet(), parallel.fromJson(numbers).unsafeGet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            JArray withFailure = numbers.insert(7777, jString("7777")).insert(5, jNull()).insert(7780, jString("7778"));
+            DecodeResult<List<Integer>> result = Decoders.parallelListDecoder(Decoders.DInt, 100, executor).fromJson(withFailure);
+            assertEquals(Decoders.listDecoder(Decoders.DInt).fromJson(withFailure).toString(), result.toString());
+            assertEquals(3, ((DecodeResult.Failure) (DecodeResult<?>) result).errors.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failuresAccumulateWithPaths() {
+        DecodeJson<Address> address = Decoders.decode(
+                TString("street"),
+                TString("city"),
+                TString("country").map(Country::new),
+                Address::new
+        );
+        DecodeJson<List<Address>> addresses = Decoders.listDecoder(address);
+        JArray json = jArray(
+                jObject(tuple("street", jString("Ensjøveien 30 A")), tuple("city", jString("Oslo")), tuple("country", jString("Norway"))),
+                jObject(tuple("street", jNumber(30)), tuple("country", jString("Norway")))
+        );
+
+        DecodeResult<List<Address>> result = addresses.fromJson(json);
+        assertTrue(result.isFailure());
+        List<DecodeError> errors = ((DecodeResult.Failure) (DecodeResult<?>) result).errors;
+        assertEquals(List.of("/1/street", "/1/city"), errors.map(e -> e.path().toString()));
+        assertEquals(List.of(DecodeError.INVALID, DecodeError.MISSING), errors.map(e -> e.code));
+        assertEquals("/1/street: No value found", errors.head().toString());
+
+        DecodeResult<Integer> lazy = DecodeResult.fail(DecodeError.INVALID, () -> {
+            throw new AssertionError("Rendered eagerly");
+        });
+        assertTrue(lazy.map(i -> i + 1).isFailure());
+    }
+}
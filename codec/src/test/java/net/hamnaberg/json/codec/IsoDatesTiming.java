@@ -0,0 +1,73 @@
+package net.hamnaberg.json.codec;
+
+import net.hamnaberg.json.Json;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+/**
+ * Compares the hand written ISO-8601 codecs with the formatter based ones.
+ * Not a test, run its main method on the codec module's test classpath, for example from an IDE.
+ * <p>
+ * A plain timing loop, as there is no benchmark harness in the build. Expect noise of a few percent between runs.
+ */
+public final class IsoDatesTiming {
+    private static final int VALUES = 1000;
+    private static final int ROUNDS = 2000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Instant[] instants = new Instant[VALUES];
+        ZonedDateTime[] dateTimes = new ZonedDateTime[VALUES];
+        Json.JValue[] instantJson = new Json.JValue[VALUES];
+        Json.JValue[] dateTimeJson = new Json.JValue[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            instants[i] = Instant.ofEpochSecond(random.nextInt() & Integer.MAX_VALUE, random.nextInt(1000) * 1000000);
+            dateTimes[i] = instants[i].atZone(ZoneOffset.UTC);
+            instantJson[i] = Codecs.CISOInstantUTC.toJson(instants[i]);
+            dateTimeJson[i] = Codecs.CISODateTimeUTC.toJson(dateTimes[i]);
+        }
+
+        for (int run = 0; run < 3; run++) {
+            System.out.printf("Run %d%n", run + 1);
+            compare("decode Instant", () -> decode(Codecs.CISOInstantUTC, instantJson), () -> decode(Codecs.CFastISOInstantUTC, instantJson));
+            compare("decode ZonedDateTime", () -> decode(Codecs.CISODateTimeUTC, dateTimeJson), () -> decode(Codecs.CFastISODateTimeUTC, dateTimeJson));
+            compare("encode Instant", () -> encode(Codecs.CISOInstantUTC, instants), () -> encode(Codecs.CFastISOInstantUTC, instants));
+            compare("encode ZonedDateTime", () -> encode(Codecs.CISODateTimeUTC, dateTimes), () -> encode(Codecs.CFastISODateTimeUTC, dateTimes));
+        }
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void compare(String name, Runnable formatter, Runnable fast) {
+        double formatterNanos = nanosPerValue(formatter);
+        double fastNanos = nanosPerValue(fast);
+        System.out.printf("  %-22s formatter %8.1f ns, fast %8.1f ns, %5.1fx%n", name, formatterNanos, fastNanos, formatterNanos / fastNanos);
+    }
+
+    private static double nanosPerValue(Runnable loop) {
+        for (int i = 0; i < ROUNDS / 4; i++) {
+            loop.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            loop.run();
+        }
+        return (System.nanoTime() - start) / (double) ROUNDS / VALUES;
+    }
+
+    private static <A> void decode(JsonCodec<A> codec, Json.JValue[] values) {
+        for (Json.JValue value : values) {
+            sink += codec.fromJsonUnsafe(value).hashCode();
+        }
+    }
+
+    private static <A> void encode(JsonCodec<A> codec, A[] values) {
+        for (A value : values) {
+            sink += codec.toJson(value).hashCode();
+        }
+    }
+}
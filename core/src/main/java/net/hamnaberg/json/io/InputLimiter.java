@@ -0,0 +1,69 @@
+package net.hamnaberg.json.io;
+
+/**
+ * Checks raw input against {@link ParserLimits} as it is read, before the parser has buffered the token in progress.
+ * <p>
+ * Only tracks whether the input is inside a string or a number, so the limits hold however the parser buffers tokens.
+ * Strings are measured as written in the input, escapes included. Malformed input is left for the parser to reject.
+ */
+public final class InputLimiter {
+    private final ParserLimits limits;
+    private long read;
+    private int token;
+    private boolean inString;
+    private boolean escaped;
+
+    public InputLimiter(ParserLimits limits) {
+        this.limits = limits;
+    }
+
+    public void scan(char[] chars, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            scan(chars[i]);
+        }
+        read += length;
+        limits.checkInputLength(read);
+    }
+
+    /**
+     * Scans UTF-8 encoded input, measuring lengths in characters rather than bytes.
+     * Other encodings have to be decoded and scanned as characters.
+     */
+    public void scan(byte[] bytes, int offset, int length) {
+        int chars = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if ((bytes[i] & 0xC0) != 0x80) {
+                chars++;
+                scan((char) (bytes[i] & 0xFF));
+            }
+        }
+        read += chars;
+        limits.checkInputLength(read);
+    }
+
+    private void scan(char c) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                token = 0;
+                return;
+            }
+            if (++token > limits.maxStringLength) {
+                limits.checkStringLength(token);
+            }
+        } else if (c == '"') {
+            inString = true;
+            token = 0;
+        } else if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+            if (++token > limits.maxNumberLength) {
+                limits.checkNumberLength(token);
+            }
+        } else {
+            token = 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package net.hamnaberg.json.io;
+
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.JsonInterner;
+
+import java.io.Reader;
+
+final class InterningJsonParser extends JsonParser {
+    private final JsonParser delegate;
+    private final JsonInterner interner;
+
+    InterningJsonParser(JsonParser delegate, JsonInterner interner) {
+        super(delegate.isInternKeys(), delegate.getLimits());
+        this.delegate = delegate;
+        this.interner = interner;
+    }
+
+    @Override
+    protected Json.JValue parseImpl(Reader reader) throws Exception {
+        return interner.intern(delegate.parseImpl(reader));
+    }
+
+    @Override
+    protected JsonParseError toError(Exception e) {
+        return delegate.toError(e);
+    }
+}
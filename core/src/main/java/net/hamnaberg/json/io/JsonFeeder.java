@@ -0,0 +1,41 @@
+package net.hamnaberg.json.io;
+
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A non-blocking, push based parser. Bytes are fed as they arrive, and the
+ * parsed value becomes available once a complete value has been seen.
+ * <p>
+ * A feeder holds parse state, and is not safe for use from multiple threads at the same time.
+ */
+public interface JsonFeeder {
+    /**
+     * Consumes the remaining bytes of the buffer.
+     *
+     * @throws JsonParseException if the input so far is not valid json
+     */
+    void feed(ByteBuffer buffer);
+
+    /**
+     * @throws JsonParseException if the input so far is not valid json
+     */
+    void feed(byte[] bytes, int offset, int length);
+
+    default void feed(byte[] bytes) {
+        feed(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Signals that no more input will arrive.
+     *
+     * @throws JsonParseException if the input did not contain a complete json value
+     */
+    void endOfInput();
+
+    boolean isDone();
+
+    Option<Json.JValue> result();
+}
@@ -0,0 +1,66 @@
+package net.hamnaberg.json.io;
+
+import java.util.Objects;
+
+/**
+ * Why and where parsing failed. Positions are 1-based for lines and columns and 0-based for the offset,
+ * counted in characters of input, and -1 when the parser could not tell.
+ */
+public final class JsonParseError {
+    public final String message;
+    public final long line;
+    public final long column;
+    public final long offset;
+
+    private JsonParseError(String message, long line, long column, long offset) {
+        this.message = Objects.requireNonNull(message, "Message may not be null");
+        this.line = line;
+        this.column = column;
+        this.offset = offset;
+    }
+
+    public static JsonParseError of(String message) {
+        return new JsonParseError(message, -1, -1, -1);
+    }
+
+    public static JsonParseError at(String message, long line, long column, long offset) {
+        return new JsonParseError(message, line, column, offset);
+    }
+
+    /**
+     * Locates an offset in the input it was found in.
+     */
+    public static JsonParseError at(String message, CharSequence input, int offset) {
+        long line = 1;
+        int lineStart = 0;
+        for (int i = 0; i < offset && i < input.length(); i++) {
+            if (input.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        return new JsonParseError(message, line, offset - lineStart + 1, offset);
+    }
+
+    public boolean hasPosition() {
+        return line != -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JsonParseError that = (JsonParseError) o;
+        return line == that.line && column == that.column && offset == that.offset && message.equals(that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message, line, column, offset);
+    }
+
+    @Override
+    public String toString() {
+        return hasPosition() ? String.format("%s at line %s, column %s", message, line, column) : message;
+    }
+}
@@ -1,19 +1,38 @@
 package net.hamnaberg.json.io;
 
 public class JsonParseException extends RuntimeException {
+    private final JsonParseError error;
+
     public JsonParseException(String message) {
         super(message);
+        this.error = null;
     }
 
     public JsonParseException(String message, Throwable cause) {
         super(message, cause);
+        this.error = null;
     }
 
     public JsonParseException(Throwable cause) {
         super(cause);
+        this.error = null;
+    }
+
+    /**
+     * Does not fill in a stack trace, so that failing to parse invalid input stays cheap.
+     * The error tells where parsing failed.
+     */
+    public JsonParseException(JsonParseError error, Throwable cause) {
+        super(error.toString(), cause, false, false);
+        this.error = error;
     }
 
     protected JsonParseException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
+        this.error = null;
+    }
+
+    public JsonParseError getError() {
+        return error != null ? error : JsonParseError.of(String.valueOf(getMessage()));
     }
 }
@@ -1,13 +1,44 @@
 package net.hamnaberg.json.io;
 
+import javaslang.control.Either;
 import javaslang.control.Option;
 import net.hamnaberg.json.Json;
+import net.hamnaberg.json.JsonInterner;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 public abstract class JsonParser {
+    private static final int KEY_DICTIONARY_CAPACITY = 1024;
+
+    private final boolean internKeys;
+    private final ParserLimits limits;
+
+    protected JsonParser() {
+        this(true);
+    }
+
+    /**
+     * @param internKeys whether repeated object keys within a document should share a single String instance
+     */
+    protected JsonParser(boolean internKeys) {
+        this(internKeys, ParserLimits.DEFAULT);
+    }
+
+    protected JsonParser(boolean internKeys, ParserLimits limits) {
+        this.internKeys = internKeys;
+        this.limits = limits;
+    }
+
+    public final boolean isInternKeys() {
+        return internKeys;
+    }
+
+    public final ParserLimits getLimits() {
+        return limits;
+    }
+
     public final Json.JValue parse(InputStream is) {
         return parse(new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
     }
@@ -17,39 +48,87 @@ public abstract class JsonParser {
     }
 
     public final Json.JValue parse(Reader reader) {
-        BufferedReader buf;
-        if (reader instanceof BufferedReader) {
-            buf = (BufferedReader) reader;
-        } else {
-            buf = new BufferedReader(reader);
-        }
-
-        try (Reader r = buf) {
+        try (Reader r = new BufferedReader(limit(reader))) {
             return parseImpl(r);
+        } catch (JsonParseException e) {
+            throw e;
         } catch (Exception e) {
-            throw new JsonParseException(e);
+            throw new JsonParseException(toError(e), e);
         }
     }
 
+    /**
+     * Wraps the reader so that the input, and the strings and numbers in it, are checked against the limits as they are read,
+     * before the backend has buffered them. Subclasses reading other than through {@link #parseImpl(Reader)} should read through this.
+     */
+    protected final Reader limit(Reader reader) {
+        return new LimitedReader(reader, limits);
+    }
+
+    /**
+     * Like {@link #limit(Reader)}, for backends decoding bytes themselves.
+     * UTF-8, UTF-16 and UTF-32 are told apart from the first bytes, as Jackson does.
+     */
+    protected final InputStream limit(InputStream is) {
+        return new LimitedInputStream(is, limits);
+    }
+
     public Option<Json.JValue> parseOpt(InputStream is) {
-        return parseOpt(is, this::parse);
+        return tryParse(is).toOption();
     }
 
     public Option<Json.JValue> parseOpt(String string) {
-        return parseOpt(string, this::parse);
+        return tryParse(string).toOption();
     }
 
     public Option<Json.JValue> parseOpt(Reader reader) {
-        return parseOpt(reader, this::parse);
+        return tryParse(reader).toOption();
+    }
+
+    /**
+     * Parses without throwing. Failures carry no stack traces, which keeps validating untrusted input cheap.
+     */
+    public Either<JsonParseError, Json.JValue> tryParse(InputStream is) {
+        return tryParse(is, this::parse);
+    }
+
+    public Either<JsonParseError, Json.JValue> tryParse(String string) {
+        return tryParse(string, this::parse);
     }
 
-    private <A> Option<Json.JValue> parseOpt(A input, Function<A, Json.JValue> f) {
+    public Either<JsonParseError, Json.JValue> tryParse(Reader reader) {
+        return tryParse(reader, this::parse);
+    }
+
+    /**
+     * A parser which canonicalizes parsed documents through the interner,
+     * so that repeated subtrees and strings share instances.
+     */
+    public JsonParser interning(JsonInterner interner) {
+        return new InterningJsonParser(this, interner);
+    }
+
+    private <A> Either<JsonParseError, Json.JValue> tryParse(A input, Function<A, Json.JValue> f) {
         try {
-            return Option.of(f.apply(input));
+            return Either.right(f.apply(input));
         } catch (JsonParseException e) {
-            return Option.none();
+            return Either.left(e.getError());
         }
+    }
+
+    /**
+     * Describes a failure thrown by {@link #parseImpl(Reader)}.
+     * Implementations should override this to report where in the input the failure happened.
+     */
+    protected JsonParseError toError(Exception e) {
+        return JsonParseError.of(String.valueOf(e.getMessage()));
+    }
 
+    /**
+     * A dictionary for canonicalizing object keys in a single parse, or {@link KeyDictionary#NONE} if disabled.
+     */
+    protected final KeyDictionary newKeyDictionary() {
+        return internKeys ? new KeyDictionary(KEY_DICTIONARY_CAPACITY) : KeyDictionary.NONE;
     }
 
     protected abstract Json.JValue parseImpl(Reader reader) throws Exception;
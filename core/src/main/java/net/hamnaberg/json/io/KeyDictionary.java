@@ -0,0 +1,68 @@
+package net.hamnaberg.json.io;
+
+/**
+ * Canonicalizes object keys during a parse, so that documents with many objects of the same shape
+ * hold a single instance of each key.
+ * <p>
+ * Each key the backend has read is replaced by the first equal key seen in the parse,
+ * so duplicates can be collected right away instead of being retained by the document.
+ * The table is bounded, keys longer than 64 characters are never stored, and
+ * once the table is three quarters full new keys are returned as is.
+ * <p>
+ * A dictionary is meant to be used by a single parse, and is not thread safe.
+ */
+public final class KeyDictionary {
+    public static final KeyDictionary NONE = new KeyDictionary(0);
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final int capacity;
+    private final int threshold;
+    private String[] table;
+    private int size;
+
+    /**
+     * @param capacity the number of slots in the table, rounded up to a power of two
+     */
+    public KeyDictionary(int capacity) {
+        this.capacity = capacity <= 0 ? 0 : Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.threshold = this.capacity * 3 / 4;
+    }
+
+    public String key(String key) {
+        if (capacity == 0 || key.length() > MAX_KEY_LENGTH) {
+            return key;
+        }
+        int hash = key.hashCode();
+        String[] t = table();
+        int mask = capacity - 1;
+        int index = spread(hash) & mask;
+        String candidate;
+        while ((candidate = t[index]) != null) {
+            if (candidate.hashCode() == hash && candidate.equals(key)) {
+                return candidate;
+            }
+            index = (index + 1) & mask;
+        }
+        return store(index, key);
+    }
+
+    private String[] table() {
+        if (table == null) {
+            table = new String[capacity];
+        }
+        return table;
+    }
+
+    private String store(int index, String key) {
+        if (size < threshold) {
+            table[index] = key;
+            size++;
+        }
+        return key;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
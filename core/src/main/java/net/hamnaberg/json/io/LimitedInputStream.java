@@ -0,0 +1,145 @@
+package net.hamnaberg.json.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Checks everything read against the {@link ParserLimits}, see {@link InputLimiter}.
+ * <p>
+ * The encoding is detected from the first bytes as Jackson does. UTF-8 is scanned as bytes,
+ * see {@link InputLimiter#scan(byte[], int, int)}, UTF-16 and UTF-32 are decoded and scanned as characters.
+ */
+final class LimitedInputStream extends FilterInputStream {
+    private final InputLimiter limiter;
+    private final byte[] single = new byte[1];
+    private boolean detected;
+    private CharsetDecoder decoder;
+    private CharBuffer chars;
+    private ByteBuffer carry;
+
+    LimitedInputStream(InputStream in, ParserLimits limits) {
+        super(new PushbackInputStream(in, 4));
+        this.limiter = new InputLimiter(limits);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (!detected) {
+            detectEncoding();
+        }
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            if (decoder == null) {
+                limiter.scan(b, off, n);
+            } else {
+                scanDecoded(b, off, n);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Reads the skipped bytes, as the limiter has to see all of the input.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        int read;
+        while (skipped < n && (read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length))) > 0) {
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void detectEncoding() throws IOException {
+        detected = true;
+        byte[] head = new byte[4];
+        int n = 0;
+        int read;
+        while (n < head.length && (read = in.read(head, n, head.length - n)) > 0) {
+            n += read;
+        }
+        if (n > 0) {
+            ((PushbackInputStream) in).unread(head, 0, n);
+        }
+        Charset charset = detect(head, n);
+        if (charset != null) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            chars = CharBuffer.allocate(1024);
+            carry = ByteBuffer.allocate(0);
+        }
+    }
+
+    /**
+     * The charset of json starting with these bytes, from a byte order mark or the zero bytes of the first characters,
+     * or null for UTF-8.
+     */
+    static Charset detect(byte[] head, int n) {
+        int b0 = n > 0 ? head[0] & 0xFF : -1;
+        int b1 = n > 1 ? head[1] & 0xFF : -1;
+        int b2 = n > 2 ? head[2] & 0xFF : -1;
+        int b3 = n > 3 ? head[3] & 0xFF : -1;
+        if ((b0 == 0x00 && b1 == 0x00 && b2 == 0xFE && b3 == 0xFF) || (b0 == 0xFF && b1 == 0xFE && b2 == 0x00 && b3 == 0x00)) {
+            return Charset.forName("UTF-32");
+        }
+        if ((b0 == 0xFE && b1 == 0xFF) || (b0 == 0xFF && b1 == 0xFE)) {
+            return Charset.forName("UTF-16");
+        }
+        if (b0 == 0x00 && b1 == 0x00 && b2 == 0x00 && b3 > 0x00) {
+            return Charset.forName("UTF-32BE");
+        }
+        if (b0 > 0x00 && b1 == 0x00 && b2 == 0x00 && b3 == 0x00) {
+            return Charset.forName("UTF-32LE");
+        }
+        if (b0 == 0x00 && b1 > 0x00) {
+            return Charset.forName("UTF-16BE");
+        }
+        if (b0 > 0x00 && b1 == 0x00) {
+            return Charset.forName("UTF-16LE");
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the bytes for the limiter, carrying a character split between reads over to the next read.
+     */
+    private void scanDecoded(byte[] b, int off, int n) {
+        ByteBuffer bytes;
+        if (carry.hasRemaining()) {
+            bytes = ByteBuffer.allocate(carry.remaining() + n);
+            bytes.put(carry).put(b, off, n).flip();
+        } else {
+            bytes = ByteBuffer.wrap(b, off, n);
+        }
+        CoderResult result;
+        do {
+            result = decoder.decode(bytes, chars, false);
+            limiter.scan(chars.array(), 0, chars.position());
+            chars.clear();
+        } while (result.isOverflow());
+        carry = ByteBuffer.allocate(bytes.remaining());
+        carry.put(bytes).flip();
+    }
+}
@@ -0,0 +1,52 @@
+package net.hamnaberg.json.io;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Checks everything read against the {@link ParserLimits}, see {@link InputLimiter}.
+ */
+final class LimitedReader extends FilterReader {
+    private final InputLimiter limiter;
+    private final char[] single = new char[1];
+
+    LimitedReader(Reader in, ParserLimits limits) {
+        super(in);
+        this.limiter = new InputLimiter(limits);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int n = super.read(cbuf, off, len);
+        if (n > 0) {
+            limiter.scan(cbuf, off, n);
+        }
+        return n;
+    }
+
+    /**
+     * Reads the skipped characters, as the limiter has to see all of the input.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        char[] buffer = new char[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        int read;
+        while (skipped < n && (read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length))) > 0) {
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
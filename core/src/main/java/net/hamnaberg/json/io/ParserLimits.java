@@ -0,0 +1,101 @@
+package net.hamnaberg.json.io;
+
+/**
+ * Limits a {@link JsonParser} enforces on its input, so that hostile documents fail fast instead of exhausting resources.
+ * Input, string and number lengths are checked on the raw input as it is read, see {@link InputLimiter}.
+ * <p>
+ * Violations throw a {@link JsonParseException} without a stack trace.
+ */
+public final class ParserLimits {
+    public static final ParserLimits DEFAULT = new ParserLimits(1000, Long.MAX_VALUE, 20_000_000, 1000, Integer.MAX_VALUE);
+
+    /**
+     * The deepest nesting of objects and arrays allowed. A top level container is at depth 1.
+     */
+    public final int maxDepth;
+    /**
+     * The most characters read from the input.
+     */
+    public final long maxInputLength;
+    /**
+     * The longest string value or object key allowed, in characters as written in the input, escapes included.
+     */
+    public final int maxStringLength;
+    /**
+     * The longest number allowed, in characters as written in the input.
+     */
+    public final int maxNumberLength;
+    /**
+     * The most members of an object, or elements of an array, allowed.
+     */
+    public final int maxContainerSize;
+
+    private ParserLimits(int maxDepth, long maxInputLength, int maxStringLength, int maxNumberLength, int maxContainerSize) {
+        this.maxDepth = maxDepth;
+        this.maxInputLength = maxInputLength;
+        this.maxStringLength = maxStringLength;
+        this.maxNumberLength = maxNumberLength;
+        this.maxContainerSize = maxContainerSize;
+    }
+
+    public ParserLimits withMaxDepth(int maxDepth) {
+        return new ParserLimits(positive("depth", maxDepth), maxInputLength, maxStringLength, maxNumberLength, maxContainerSize);
+    }
+
+    public ParserLimits withMaxInputLength(long maxInputLength) {
+        return new ParserLimits(maxDepth, positive("input length", maxInputLength), maxStringLength, maxNumberLength, maxContainerSize);
+    }
+
+    public ParserLimits withMaxStringLength(int maxStringLength) {
+        return new ParserLimits(maxDepth, maxInputLength, positive("string length", maxStringLength), maxNumberLength, maxContainerSize);
+    }
+
+    public ParserLimits withMaxNumberLength(int maxNumberLength) {
+        return new ParserLimits(maxDepth, maxInputLength, maxStringLength, positive("number length", maxNumberLength), maxContainerSize);
+    }
+
+    public ParserLimits withMaxContainerSize(int maxContainerSize) {
+        return new ParserLimits(maxDepth, maxInputLength, maxStringLength, maxNumberLength, positive("container size", maxContainerSize));
+    }
+
+    public void checkDepth(int depth) {
+        if (depth > maxDepth) {
+            throw violation(String.format("Nesting deeper than %s", maxDepth));
+        }
+    }
+
+    public void checkInputLength(long length) {
+        if (length > maxInputLength) {
+            throw violation(String.format("Input longer than %s characters", maxInputLength));
+        }
+    }
+
+    public void checkStringLength(int length) {
+        if (length > maxStringLength) {
+            throw violation(String.format("String longer than %s characters", maxStringLength));
+        }
+    }
+
+    public void checkNumberLength(int length) {
+        if (length > maxNumberLength) {
+            throw violation(String.format("Number longer than %s characters", maxNumberLength));
+        }
+    }
+
+    public void checkContainerSize(int size) {
+        if (size > maxContainerSize) {
+            throw violation(String.format("Object or array larger than %s", maxContainerSize));
+        }
+    }
+
+    private static JsonParseException violation(String message) {
+        return new JsonParseException(JsonParseError.of(message), null);
+    }
+
+    private static <N extends Number> N positive(String name, N limit) {
+        if (limit.longValue() < 1) {
+            throw new IllegalArgumentException(String.format("Max %s must be positive, was %s", name, limit));
+        }
+        return limit;
+    }
+}
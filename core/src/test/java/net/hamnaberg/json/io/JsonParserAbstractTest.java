@@ -1,11 +1,14 @@
 package net.hamnaberg.json.io;
 
+import javaslang.control.Either;
 import javaslang.control.Option;
 import net.hamnaberg.json.Json;
 import net.hamnaberg.json.pointer.JsonPointer;
 import org.junit.Test;
 
 import java.io.InputStream;
+import java.io.Reader;
+import java.util.Arrays;
 
 import static org.junit.Assert.*;
 
@@ -33,5 +36,106 @@ public abstract class JsonParserAbstractTest {
         assertEquals(Json.jString("http://example.org/friends/"), value.get());
     }
 
+    @Test
+    public void repeatedKeysShareInstance() throws Exception {
+        Json.JArray parsed = getParser().parse("[{\"name\": 1}, {\"name\": 2}]").asJsonArrayOrEmpty();
+        String first = parsed.get(0).get().asJsonObjectOrEmpty().iterator().next()._1;
+        String second = parsed.get(1).get().asJsonObjectOrEmpty().iterator().next()._1;
+        assertEquals("name", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void nestingUpToMaxDepthParses() throws Exception {
+        Json.JValue parsed = getParser().parse(nested(getParser().getLimits().maxDepth));
+        assertTrue(parsed.isArray());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tooDeepNestingFails() throws Exception {
+        getParser().parse(nested(100000));
+    }
+
+    @Test
+    public void limitsAreEnforced() throws Exception {
+        ParserLimits limits = ParserLimits.DEFAULT
+                .withMaxInputLength(40)
+                .withMaxStringLength(5)
+                .withMaxNumberLength(5)
+                .withMaxContainerSize(3);
+        JsonParser parser = getParser(limits);
+        assertEquals(
+                Json.jObject(Json.tuple("abcde", Json.jArray(Json.jString("abcde"), Json.jNumber(12345), Json.jNull()))),
+                parser.parse("{\"abcde\": [\"abcde\", 12345, null]}")
+        );
+        assertViolation(parser, "{\"abcdef\": 1}");
+        assertViolation(parser, "[\"abcdef\"]");
+        assertViolation(parser, "[123456]");
+        assertViolation(parser, "[1, 2, 3, 4]");
+        assertViolation(parser, "{\"a\": 1, \"b\": 2, \"c\": 3, \"d\": 4}");
+        assertViolation(parser, "[1]" + String.format("%50s", ""));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void endlessStringFailsWhileReading() throws Exception {
+        getParser(ParserLimits.DEFAULT.withMaxStringLength(1000)).parse(new Reader() {
+            private boolean started;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                Arrays.fill(cbuf, off, off + len, 'a');
+                if (!started && len > 1) {
+                    cbuf[off] = '[';
+                    cbuf[off + 1] = '"';
+                    started = true;
+                }
+                return len;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    public void failuresAreCheapAndPositioned() throws Exception {
+        Either<JsonParseError, Json.JValue> result = getParser().tryParse("{\n  \"a\": }");
+        assertTrue(result.isLeft());
+        assertEquals(2, result.getLeft().line);
+        assertTrue(result.getLeft().column > 0);
+        assertFalse(getParser().parseOpt("[1,").isDefined());
+        try {
+            getParser().parse("[1,");
+            fail("Expected a parse failure");
+        } catch (JsonParseException e) {
+            assertEquals(0, e.getStackTrace().length);
+            assertTrue(e.getError().hasPosition());
+        }
+    }
+
+    private static void assertViolation(JsonParser parser, String json) {
+        try {
+            parser.parse(json);
+            fail("Expected a limit violation parsing " + json);
+        } catch (JsonParseException e) {
+            // expected
+        }
+    }
+
+    private static String nested(int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append(i % 2 == 0 ? "[" : "{\"a\":");
+        }
+        sb.append("1");
+        for (int i = depth - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? "]" : "}");
+        }
+        return sb.toString();
+    }
+
     protected abstract JsonParser getParser();
+
+    protected abstract JsonParser getParser(ParserLimits limits);
 }
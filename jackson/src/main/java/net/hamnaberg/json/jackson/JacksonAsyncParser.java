@@ -0,0 +1,187 @@
+package net.hamnaberg.json.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.io.InputLimiter;
+import net.hamnaberg.json.io.JsonFeeder;
+import net.hamnaberg.json.io.JsonParseException;
+import net.hamnaberg.json.io.ParserLimits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Creates {@link JsonFeeder}s backed by Jackson's non-blocking parser.
+ * Feeding never blocks, and input is consumed as it arrives instead of being buffered until complete.
+ */
+public final class JacksonAsyncParser {
+    private final JsonFactory factory = new JsonFactory();
+    private final ParserLimits limits;
+
+    public JacksonAsyncParser() {
+        this(ParserLimits.DEFAULT);
+    }
+
+    /**
+     * Input, string and number lengths are checked on the bytes as they are fed, before Jackson buffers them.
+     */
+    public JacksonAsyncParser(ParserLimits limits) {
+        this.limits = limits;
+    }
+
+    public JsonFeeder newFeeder() {
+        return new ValueFeeder(newParser(), limits);
+    }
+
+    /**
+     * Creates a feeder for a top level array, which hands each element to the consumer as soon as it is complete.
+     * Only one element is held in memory at any time, so the caller bounds memory use by how much it feeds.
+     * <p>
+     * The feeder is done when the array is closed. Its {@link JsonFeeder#result()} is always empty.
+     */
+    public JsonFeeder newArrayFeeder(Consumer<Json.JValue> onElement) {
+        return new ArrayFeeder(newParser(), limits, onElement);
+    }
+
+    private com.fasterxml.jackson.core.JsonParser newParser() {
+        try {
+            return factory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private static abstract class Feeder implements JsonFeeder {
+        final com.fasterxml.jackson.core.JsonParser parser;
+        final ValueBuilder builder;
+        private final InputLimiter limiter;
+        private final ByteArrayFeeder input;
+        private boolean ended;
+
+        Feeder(com.fasterxml.jackson.core.JsonParser parser, ParserLimits limits) {
+            this.parser = parser;
+            this.builder = new ValueBuilder(limits);
+            this.limiter = new InputLimiter(limits);
+            this.input = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        @Override
+        public void feed(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                feed(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                buffer.position(buffer.limit());
+            } else {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                feed(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void feed(byte[] bytes, int offset, int length) {
+            if (ended) {
+                throw new IllegalStateException("Input has already ended");
+            }
+            limiter.scan(bytes, offset, length);
+            try {
+                input.feedInput(bytes, offset, offset + length);
+                drain();
+            } catch (IOException e) {
+                throw new JsonParseException(e);
+            }
+        }
+
+        @Override
+        public void endOfInput() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            input.endOfInput();
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new JsonParseException(e);
+            }
+            if (!isDone()) {
+                throw new JsonParseException("Unexpected end of input");
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (isDone()) {
+                    throw new JsonParseException("Unexpected content after value: " + token);
+                }
+                accept(token);
+            }
+        }
+
+        abstract void accept(JsonToken token) throws IOException;
+    }
+
+    private static final class ValueFeeder extends Feeder {
+        private Json.JValue result;
+
+        ValueFeeder(com.fasterxml.jackson.core.JsonParser parser, ParserLimits limits) {
+            super(parser, limits);
+        }
+
+        @Override
+        void accept(JsonToken token) throws IOException {
+            if (builder.accept(token, parser)) {
+                result = builder.result();
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return result != null;
+        }
+
+        @Override
+        public Option<Json.JValue> result() {
+            return Option.of(result);
+        }
+    }
+
+    private static final class ArrayFeeder extends Feeder {
+        private final Consumer<Json.JValue> onElement;
+        private boolean started;
+        private boolean done;
+
+        ArrayFeeder(com.fasterxml.jackson.core.JsonParser parser, ParserLimits limits, Consumer<Json.JValue> onElement) {
+            super(parser, limits);
+            this.onElement = onElement;
+        }
+
+        @Override
+        void accept(JsonToken token) throws IOException {
+            if (!started) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException("Expected start of array, but got " + token);
+                }
+                started = true;
+            } else if (token == JsonToken.END_ARRAY && builder.isEmpty()) {
+                done = true;
+            } else if (builder.accept(token, parser)) {
+                onElement.accept(builder.result());
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public Option<Json.JValue> result() {
+            return Option.none();
+        }
+    }
+}
@@ -1,85 +1,246 @@
 package net.hamnaberg.json.jackson;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
+import javaslang.control.Option;
 import net.hamnaberg.json.*;
+import net.hamnaberg.json.io.JsonParseError;
+import net.hamnaberg.json.io.JsonParseException;
 import net.hamnaberg.json.io.JsonParser;
+import net.hamnaberg.json.io.ParserLimits;
+import net.hamnaberg.json.pointer.JsonPointer;
+import net.hamnaberg.json.pointer.JsonPointerSet;
 
-import java.io.Reader;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class JacksonStreamingParser extends JsonParser {
-    private final JsonFactory factory = new JsonFactory();
+    private final JsonFactory factory;
+
+    public JacksonStreamingParser() {
+        this(true);
+    }
+
+    /**
+     * Key interning uses Jackson's field name canonicalization, which looks names up from the raw input
+     * in a symbol table shared by all parses from this instance.
+     */
+    public JacksonStreamingParser(boolean internKeys) {
+        this(internKeys, ParserLimits.DEFAULT);
+    }
+
+    public JacksonStreamingParser(boolean internKeys, ParserLimits limits) {
+        super(internKeys, limits);
+        this.factory = new JsonFactory().configure(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES, internKeys);
+    }
 
     @Override
     protected Json.JValue parseImpl(Reader reader) throws Exception {
         com.fasterxml.jackson.core.JsonParser parser = factory.createParser(reader);
-        JsonToken token;
-        while ((token = parser.nextToken()) != null ) {
-            if (token == JsonToken.START_OBJECT) {
-                return handleObject(parser);
-            }
-            else if (token == JsonToken.START_ARRAY) {
-                return handleArray(parser);
-            }
-            else if (token.isScalarValue()) {
-                return handleScalarValue(parser);
-            }
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IllegalStateException("Nothing parsed...");
         }
-        throw new IllegalStateException("Nothing parsed...");
+        return readValue(parser, token);
     }
 
-    private Json.JObject handleObject(com.fasterxml.jackson.core.JsonParser parser) throws Exception {
-        LinkedHashMap<String, Json.JValue> map = new LinkedHashMap<>();
-        String fieldName;
-        while ((fieldName = parser.nextFieldName()) != null) {
-            JsonToken token = parser.nextValue();
-            if (token.isScalarValue()) {
-                map.put(fieldName, handleScalarValue(parser));
-            }
-            else if (token == JsonToken.START_ARRAY) {
-                map.put(fieldName, handleArray(parser));
-            }
-            else if (token == JsonToken.START_OBJECT) {
-                map.put(fieldName, handleObject(parser));
+    @Override
+    protected JsonParseError toError(Exception e) {
+        if (e instanceof JsonProcessingException && ((JsonProcessingException) e).getLocation() != null) {
+            JsonLocation location = ((JsonProcessingException) e).getLocation();
+            return JsonParseError.at(((JsonProcessingException) e).getOriginalMessage(), location.getLineNr(), location.getColumnNr(), location.getCharOffset());
+        }
+        return super.toError(e);
+    }
+
+    /**
+     * Lazily streams the elements of a top level array.
+     * Elements are parsed as they are pulled from the stream, so memory use is bounded
+     * by the elements in flight rather than by the size of the document.
+     * <p>
+     * The stream must be closed to release the underlying input.
+     * <p>
+     * The encoding of the bytes, UTF-8, UTF-16 or UTF-32, is detected by Jackson.
+     */
+    public Stream<Json.JValue> streamArray(InputStream is) {
+        try {
+            return streamArray(factory.createParser(limit(is)));
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public Stream<Json.JValue> streamArray(ReadableByteChannel channel) {
+        return streamArray(Channels.newInputStream(channel));
+    }
+
+    public Stream<Json.JValue> streamArray(Reader reader) {
+        try {
+            return streamArray(factory.createParser(limit(reader)));
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private Stream<Json.JValue> streamArray(com.fasterxml.jackson.core.JsonParser parser) {
+        ArrayElements elements = new ArrayElements(parser, new ValueBuilder(getLimits()));
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(elements::close);
+    }
+
+    /**
+     * Selects every pointer in the set while parsing, without building the document.
+     * Only the selected values are built, every other subtree is skipped,
+     * and parsing stops as soon as all pointers are found.
+     */
+    public javaslang.collection.Map<JsonPointer, Json.JValue> select(InputStream is, JsonPointerSet pointers) {
+        try {
+            return select(factory.createParser(limit(is)), pointers);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public javaslang.collection.Map<JsonPointer, Json.JValue> select(Reader reader, JsonPointerSet pointers) {
+        try {
+            return select(factory.createParser(limit(reader)), pointers);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private javaslang.collection.Map<JsonPointer, Json.JValue> select(com.fasterxml.jackson.core.JsonParser p, JsonPointerSet pointers) {
+        try (com.fasterxml.jackson.core.JsonParser parser = p) {
+            LinkedHashMap<JsonPointer, Json.JValue> found = new LinkedHashMap<>();
+            JsonToken token = parser.nextToken();
+            if (token != null) {
+                select(parser, token, pointers.root(), pointers.size(), found);
             }
+            return javaslang.collection.LinkedHashMap.ofAll(found);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
         }
-        return Json.jObject(map);
     }
 
-    private Json.JValue handleArray(com.fasterxml.jackson.core.JsonParser parser) throws Exception {
-        JsonToken token;
-        List<Json.JValue> values = new ArrayList<>();
-        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
-            if (token.isScalarValue()) {
-                values.add(handleScalarValue(parser));
+    private void select(com.fasterxml.jackson.core.JsonParser parser, JsonToken token, JsonPointerSet.Node node, int wanted, Map<JsonPointer, Json.JValue> found) throws IOException {
+        if (node.isMatch()) {
+            found.putAll(node.select(readValue(parser, token)).toJavaMap());
+        }
+        else if (node.isLeaf()) {
+            parser.skipChildren();
+        }
+        else if (token == JsonToken.START_OBJECT) {
+            while (found.size() < wanted && parser.nextToken() == JsonToken.FIELD_NAME) {
+                Option<JsonPointerSet.Node> child = node.member(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (child.isDefined()) {
+                    select(parser, value, child.get(), wanted, found);
+                }
+                else {
+                    parser.skipChildren();
+                }
             }
-            else if (token == JsonToken.START_ARRAY) {
-                values.add(handleArray(parser));
+        }
+        else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            JsonToken value;
+            while (found.size() < wanted && (value = parser.nextToken()) != JsonToken.END_ARRAY) {
+                Option<JsonPointerSet.Node> child = node.element(index++);
+                if (child.isDefined()) {
+                    select(parser, value, child.get(), wanted, found);
+                }
+                else {
+                    parser.skipChildren();
+                }
             }
-            else if (token == JsonToken.START_OBJECT) {
-                values.add(handleObject(parser));
+        }
+    }
+
+    private Json.JValue readValue(com.fasterxml.jackson.core.JsonParser parser, JsonToken token) throws IOException {
+        ValueBuilder builder = new ValueBuilder(getLimits());
+        while (!builder.accept(token, parser)) {
+            token = parser.nextToken();
+            if (token == null) {
+                throw new JsonParseException("Unexpected end of input");
             }
         }
-        return Json.jArray(values);
+        return builder.result();
     }
 
-    private Json.JValue handleScalarValue(com.fasterxml.jackson.core.JsonParser parser) throws Exception {
-        JsonToken token = parser.getCurrentToken();
-        if (token == JsonToken.VALUE_STRING) {
-            return Json.jString(parser.getValueAsString());
+    private static final class ArrayElements implements Iterator<Json.JValue> {
+        private final com.fasterxml.jackson.core.JsonParser parser;
+        private final ValueBuilder builder;
+        private Json.JValue next;
+        private boolean started;
+        private boolean done;
+
+        ArrayElements(com.fasterxml.jackson.core.JsonParser parser, ValueBuilder builder) {
+            this.parser = parser;
+            this.builder = builder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    advance();
+                } catch (IOException e) {
+                    throw new JsonParseException(e);
+                }
+            }
+            return next != null;
         }
-        else if (token.isNumeric()) {
-            return Json.jNumber(parser.getDecimalValue());
+
+        @Override
+        public Json.JValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Json.JValue value = next;
+            next = null;
+            return value;
         }
-        else if (token.isBoolean()) {
-            return Json.jBoolean(parser.getBooleanValue());
+
+        private void advance() throws IOException {
+            if (!started) {
+                JsonToken first = parser.nextToken();
+                if (first != JsonToken.START_ARRAY) {
+                    throw new JsonParseException("Expected start of array, but got " + first);
+                }
+                started = true;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.END_ARRAY && builder.isEmpty()) {
+                    done = true;
+                    JsonToken trailing = parser.nextToken();
+                    if (trailing != null) {
+                        throw new JsonParseException("Unexpected content after array: " + trailing);
+                    }
+                    return;
+                }
+                if (builder.accept(token, parser)) {
+                    next = builder.result();
+                    return;
+                }
+            }
+            throw new JsonParseException("Unexpected end of input");
         }
-        else {
-            return Json.jNull();
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
     }
-
 }
@@ -0,0 +1,135 @@
+package net.hamnaberg.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.io.ParserLimits;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a value one token at a time, keeping open containers on an explicit stack.
+ * This lets the same code drive both blocking and non-blocking parsers.
+ * Depth and container sizes are checked against the {@link ParserLimits} here,
+ * string and number lengths are checked on the raw input before it reaches the parser.
+ */
+final class ValueBuilder {
+    private final ArrayList<Frame> stack = new ArrayList<>();
+    private final ParserLimits limits;
+    private Json.JValue result;
+
+    ValueBuilder(ParserLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * @return true when the token completed a top level value, which is then available from {@link #result()}
+     */
+    boolean accept(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                limits.checkDepth(stack.size() + 1);
+                stack.add(new ObjectFrame());
+                return false;
+            case START_ARRAY:
+                limits.checkDepth(stack.size() + 1);
+                stack.add(new ArrayFrame());
+                return false;
+            case FIELD_NAME:
+                ((ObjectFrame) top()).name = parser.getCurrentName();
+                return false;
+            case END_OBJECT:
+            case END_ARRAY:
+                return value(stack.remove(stack.size() - 1).build());
+            case VALUE_STRING:
+                return value(Json.jString(parser.getText()));
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return value(Json.jNumber(parser.getDecimalValue()));
+            case VALUE_TRUE:
+                return value(Json.jBoolean(true));
+            case VALUE_FALSE:
+                return value(Json.jBoolean(false));
+            case VALUE_NULL:
+                return value(Json.jNull());
+            default:
+                return false;
+        }
+    }
+
+    boolean isEmpty() {
+        return stack.isEmpty();
+    }
+
+    Json.JValue result() {
+        Json.JValue value = result;
+        result = null;
+        return value;
+    }
+
+    private Frame top() {
+        return stack.get(stack.size() - 1);
+    }
+
+    private boolean value(Json.JValue value) {
+        if (stack.isEmpty()) {
+            result = value;
+            return true;
+        }
+        Frame top = top();
+        top.add(value);
+        limits.checkContainerSize(top.size());
+        return false;
+    }
+
+    private static abstract class Frame {
+        abstract void add(Json.JValue value);
+
+        abstract int size();
+
+        abstract Json.JValue build();
+    }
+
+    private static final class ObjectFrame extends Frame {
+        private final Map<String, Json.JValue> map = new LinkedHashMap<>();
+        private String name;
+
+        @Override
+        void add(Json.JValue value) {
+            map.put(name, value);
+        }
+
+        @Override
+        int size() {
+            return map.size();
+        }
+
+        @Override
+        Json.JValue build() {
+            return Json.jObject(map);
+        }
+    }
+
+    private static final class ArrayFrame extends Frame {
+        private final List<Json.JValue> list = new ArrayList<>();
+
+        @Override
+        void add(Json.JValue value) {
+            list.add(value);
+        }
+
+        @Override
+        int size() {
+            return list.size();
+        }
+
+        @Override
+        Json.JValue build() {
+            return Json.jArray(list);
+        }
+    }
+}
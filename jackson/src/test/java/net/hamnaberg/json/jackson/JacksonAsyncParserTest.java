@@ -0,0 +1,75 @@
+package net.hamnaberg.json.jackson;
+
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.io.IOUtils;
+import net.hamnaberg.json.io.JsonFeeder;
+import net.hamnaberg.json.io.JsonParseException;
+import net.hamnaberg.json.io.ParserLimits;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JacksonAsyncParserTest {
+    private final JacksonAsyncParser parser = new JacksonAsyncParser();
+
+    @Test
+    public void feedInChunks() throws Exception {
+        InputStream stream = getClass().getResourceAsStream("/items.json");
+        byte[] bytes = IOUtils.toString(stream).getBytes(StandardCharsets.UTF_8);
+        Json.JValue expected = new JacksonStreamingParser().parse(new String(bytes, StandardCharsets.UTF_8));
+
+        JsonFeeder feeder = parser.newFeeder();
+        for (int i = 0; i < bytes.length; i += 7) {
+            assertFalse(feeder.isDone());
+            feeder.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+        }
+        feeder.endOfInput();
+        assertTrue(feeder.isDone());
+        assertEquals(expected, feeder.result().get());
+    }
+
+    @Test
+    public void scalarNeedsEndOfInput() {
+        JsonFeeder feeder = parser.newFeeder();
+        feeder.feed("12".getBytes(StandardCharsets.UTF_8));
+        feeder.feed("3".getBytes(StandardCharsets.UTF_8));
+        assertFalse(feeder.isDone());
+        feeder.endOfInput();
+        assertEquals(Json.jNumber(123), feeder.result().get());
+    }
+
+    @Test
+    public void arrayFeederEmitsElementsAsTheyComplete() {
+        List<Json.JValue> elements = new ArrayList<>();
+        JsonFeeder feeder = parser.newArrayFeeder(elements::add);
+        feeder.feed("[{\"a\": 1}, [tr".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, elements.size());
+        feeder.feed("ue], \"x\"]".getBytes(StandardCharsets.UTF_8));
+        assertTrue(feeder.isDone());
+        feeder.endOfInput();
+        assertEquals(3, elements.size());
+        assertEquals(Json.jObject("a", 1), elements.get(0));
+        assertEquals(Json.jArray(Json.jBoolean(true)), elements.get(1));
+        assertEquals(Json.jString("x"), elements.get(2));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void incompleteInputFails() {
+        JsonFeeder feeder = parser.newFeeder();
+        feeder.feed("{\"a\": [1, 2".getBytes(StandardCharsets.UTF_8));
+        feeder.endOfInput();
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void limitsAreCheckedAsBytesAreFed() {
+        JsonFeeder feeder = new JacksonAsyncParser(ParserLimits.DEFAULT.withMaxStringLength(5)).newArrayFeeder(v -> {});
+        feeder.feed("[\"abcde\", \"abc".getBytes(StandardCharsets.UTF_8));
+        feeder.feed("def".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,116 @@
 package net.hamnaberg.json.jackson;
 
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.JsonInterner;
+import net.hamnaberg.json.io.JsonParseException;
 import net.hamnaberg.json.io.JsonParser;
 import net.hamnaberg.json.io.JsonParserAbstractTest;
+import net.hamnaberg.json.io.ParserLimits;
+import net.hamnaberg.json.pointer.JsonPointerSet;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class JacksonStreamingParserTest extends JsonParserAbstractTest {
     @Override
     protected JsonParser getParser() {
         return new JacksonStreamingParser();
     }
+
+    @Override
+    protected JsonParser getParser(ParserLimits limits) {
+        return new JacksonStreamingParser(true, limits);
+    }
+
+    @Test
+    public void streamArrayElements() {
+        String json = "[{\"a\": [1, 2]}, \"b\", [], null]";
+        try (Stream<Json.JValue> stream = new JacksonStreamingParser().streamArray(new StringReader(json))) {
+            List<Json.JValue> elements = stream.collect(Collectors.toList());
+            assertEquals(getParser().parse(json).asJsonArrayOrEmpty().getValue().toJavaList(), elements);
+        }
+    }
+
+    @Test
+    public void selectWhileParsing() {
+        JsonPointerSet pointers = JsonPointerSet.compile("/collection/links/0/rel", "/collection/items/1", "/collection/missing", "/collection/href");
+        Json.JValue document = getParser().parse(getClass().getResourceAsStream("/items.json"));
+        assertEquals(pointers.select(document).toJavaMap(), new JacksonStreamingParser().select(getClass().getResourceAsStream("/items.json"), pointers).toJavaMap());
+    }
+
+    @Test
+    public void selectStopsWhenAllAreFound() {
+        JsonPointerSet pointers = JsonPointerSet.compile("/a/1");
+        assertEquals(Json.jString("b"), new JacksonStreamingParser().select(new StringReader("{\"a\": [\"a\", \"b\", {"), pointers).values().head());
+    }
+
+    @Test
+    public void streamArrayIsLazy() {
+        String json = "[1, 2, {";
+        try (Stream<Json.JValue> stream = new JacksonStreamingParser().streamArray(new StringReader(json))) {
+            assertEquals(Json.jNumber(1), stream.findFirst().get());
+        }
+    }
+
+    @Test
+    public void interningParser() {
+        JsonParser parser = getParser().interning(new JsonInterner(1024));
+        Json.JArray array = parser.parse("[{\"currency\": \"NOK\"}, {\"currency\": \"NOK\"}]").asJsonArrayOrEmpty();
+        assertSame(array.get(0).get(), array.get(1).get());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void streamArrayChecksLimits() {
+        new JacksonStreamingParser(true, ParserLimits.DEFAULT.withMaxNumberLength(3)).streamArray(new StringReader("[1, 22, 4444]")).count();
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void streamArrayRejectsTrailingContent() {
+        new JacksonStreamingParser().streamArray(new StringReader("[1, 2] 3")).count();
+    }
+
+    @Test
+    public void streamArrayDetectsEncoding() {
+        byte[] utf16 = "[\"blåbær\", 12]".getBytes(StandardCharsets.UTF_16BE);
+        try (Stream<Json.JValue> stream = new JacksonStreamingParser().streamArray(new ByteArrayInputStream(utf16))) {
+            assertEquals(Arrays.asList(Json.jString("blåbær"), Json.jNumber(12)), stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void streamArrayChecksLimitsOfDecodedCharacters() {
+        JacksonStreamingParser parser = new JacksonStreamingParser(true, ParserLimits.DEFAULT.withMaxStringLength(5).withMaxNumberLength(10));
+        for (Charset charset : Arrays.asList(StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE, StandardCharsets.UTF_16, Charset.forName("UTF-32BE"), Charset.forName("UTF-32LE"))) {
+            byte[] bytes = "[\"丢\", 1, 2]".getBytes(charset);
+            try (Stream<Json.JValue> stream = parser.streamArray(new ByteArrayInputStream(bytes))) {
+                assertEquals(charset.name(), Arrays.asList(Json.jString("丢"), Json.jNumber(1), Json.jNumber(2)), stream.collect(Collectors.toList()));
+            }
+            char[] zeros = new char[5000];
+            Arrays.fill(zeros, '0');
+            byte[] longNumber = ("[\"丢\", 1" + new String(zeros) + "]").getBytes(charset);
+            try (Stream<Json.JValue> stream = parser.streamArray(new ByteArrayInputStream(longNumber))) {
+                stream.count();
+                fail(charset.name());
+            } catch (JsonParseException expected) {
+                assertTrue(expected.getMessage(), expected.getMessage().contains("Number longer than 10"));
+            }
+        }
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void streamArrayRequiresArray() {
+        new JacksonStreamingParser().streamArray(new StringReader("{}")).count();
+    }
 }
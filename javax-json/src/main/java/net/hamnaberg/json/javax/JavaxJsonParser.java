@@ -1,45 +1,79 @@
 package net.hamnaberg.json.javax;
 
 import net.hamnaberg.json.Json;
+import net.hamnaberg.json.io.JsonParseError;
+import net.hamnaberg.json.io.KeyDictionary;
+import net.hamnaberg.json.io.ParserLimits;
 
 import java.io.Reader;
+import java.math.BigDecimal;
 import java.util.*;
+import javax.json.stream.JsonLocation;
 import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
 
 public final class JavaxJsonParser extends net.hamnaberg.json.io.JsonParser {
-    private final EnumSet<JsonParser.Event> scalarSet =
-            EnumSet.of(
-                    JsonParser.Event.VALUE_STRING,
-                    JsonParser.Event.VALUE_NUMBER,
-                    JsonParser.Event.VALUE_TRUE,
-                    JsonParser.Event.VALUE_FALSE,
-                    JsonParser.Event.VALUE_NULL
-            );
+    public JavaxJsonParser() {
+        this(true);
+    }
+
+    public JavaxJsonParser(boolean internKeys) {
+        this(internKeys, ParserLimits.DEFAULT);
+    }
+
+    public JavaxJsonParser(boolean internKeys, ParserLimits limits) {
+        super(internKeys, limits);
+    }
 
     @Override
     protected Json.JValue parseImpl(Reader reader) throws Exception {
         JsonParser parser = javax.json.Json.createParser(reader);
-        JsonParser.Event event;
-        while ((event = parser.next()) != null ) {
-            if (event == JsonParser.Event.START_OBJECT) {
-                return handleObject(parser);
+        KeyDictionary keys = newKeyDictionary();
+        ArrayList<Frame> stack = new ArrayList<>();
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            Json.JValue value;
+            switch (event) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    getLimits().checkDepth(stack.size() + 1);
+                    stack.add(new Frame(event == JsonParser.Event.START_OBJECT));
+                    continue;
+                case KEY_NAME:
+                    stack.get(stack.size() - 1).name = keys.key(parser.getString());
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value = stack.remove(stack.size() - 1).build();
+                    break;
+                default:
+                    value = handleScalarValue(event, parser);
             }
-            else if (event == JsonParser.Event.START_ARRAY) {
-                return handleArray(parser);
-            }
-            else if (isScalar(event)) {
-                return handleScalarValue(event, parser);
+            if (stack.isEmpty()) {
+                return value;
             }
+            Frame top = stack.get(stack.size() - 1);
+            top.add(value);
+            getLimits().checkContainerSize(top.size());
         }
         throw new IllegalStateException("Nothing parsed...");
     }
 
+    @Override
+    protected JsonParseError toError(Exception e) {
+        if (e instanceof JsonParsingException && ((JsonParsingException) e).getLocation() != null) {
+            JsonLocation location = ((JsonParsingException) e).getLocation();
+            return JsonParseError.at(e.getMessage(), location.getLineNumber(), location.getColumnNumber(), location.getStreamOffset());
+        }
+        return super.toError(e);
+    }
+
     private Json.JValue handleScalarValue(JsonParser.Event event, JsonParser parser) {
         switch (event) {
             case VALUE_STRING:
                 return Json.jString(parser.getString());
             case VALUE_NUMBER:
-                return Json.jNumber(parser.getBigDecimal());
+                return Json.jNumber(new BigDecimal(parser.getString()));
             case VALUE_TRUE:
                 return Json.jBoolean(true);
             case VALUE_FALSE:
@@ -51,45 +85,34 @@ public final class JavaxJsonParser extends net.hamnaberg.json.io.JsonParser {
         }
     }
 
-    private boolean isScalar(JsonParser.Event event) {
-        return scalarSet.contains(event);
-    }
+    /**
+     * An open object or array. Containers are kept on an explicit stack, so nesting depth is not bounded by the thread stack.
+     */
+    private static final class Frame {
+        private final Map<String, Json.JValue> map;
+        private final List<Json.JValue> list;
+        private String name;
 
-    private Json.JArray handleArray(JsonParser parser) {
-        JsonParser.Event event;
-        List<Json.JValue> list = new ArrayList<>();
-        while((event = parser.next())!= JsonParser.Event.END_ARRAY) {
-            if (isScalar(event)) {
-                list.add(handleScalarValue(event, parser));
-            }
-            else if (event == JsonParser.Event.START_OBJECT) {
-                list.add(handleObject(parser));
-            }
-            else if (event == JsonParser.Event.START_ARRAY) {
-                list.add(handleArray(parser));
-            }
+        Frame(boolean object) {
+            this.map = object ? new LinkedHashMap<>() : null;
+            this.list = object ? null : new ArrayList<>();
         }
-        return Json.jArray(list);
-    }
 
-    private Json.JObject handleObject(JsonParser parser) {
-        Map<String, Json.JValue> map = new LinkedHashMap<>();
-        JsonParser.Event event;
-        String name = null;
-        while((event = parser.next()) != JsonParser.Event.END_OBJECT) {
-            if (event == JsonParser.Event.KEY_NAME) {
-                name = parser.getString();
+        void add(Json.JValue value) {
+            if (map != null) {
+                map.put(name, value);
             }
-            if (name != null) {
-                if (isScalar(event)) {
-                    map.put(name, handleScalarValue(event, parser));
-                } else if (event == JsonParser.Event.START_OBJECT) {
-                    map.put(name, handleObject(parser));
-                } else if (event == JsonParser.Event.START_ARRAY) {
-                    map.put(name, handleArray(parser));
-                }
+            else {
+                list.add(value);
             }
         }
-        return Json.jObject(map);
+
+        int size() {
+            return map != null ? map.size() : list.size();
+        }
+
+        Json.JValue build() {
+            return map != null ? Json.jObject(map) : Json.jArray(list);
+        }
     }
 }
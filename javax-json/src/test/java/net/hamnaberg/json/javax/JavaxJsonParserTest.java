@@ -2,6 +2,7 @@ package net.hamnaberg.json.javax;
 
 import net.hamnaberg.json.io.JsonParser;
 import net.hamnaberg.json.io.JsonParserAbstractTest;
+import net.hamnaberg.json.io.ParserLimits;
 
 public class JavaxJsonParserTest extends JsonParserAbstractTest {
 
@@ -9,4 +10,9 @@ public class JavaxJsonParserTest extends JsonParserAbstractTest {
     protected JsonParser getParser() {
         return new JavaxJsonParser();
     }
+
+    @Override
+    protected JsonParser getParser(ParserLimits limits) {
+        return new JavaxJsonParser(true, limits);
+    }
 }
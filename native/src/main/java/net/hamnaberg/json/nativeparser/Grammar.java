@@ -24,6 +24,8 @@
 package net.hamnaberg.json.nativeparser;
 
 import javaslang.Tuple2;
+import net.hamnaberg.json.io.KeyDictionary;
+import net.hamnaberg.json.io.ParserLimits;
 import org.javafp.data.*;
 import org.javafp.parsecj.*;
 
@@ -45,6 +47,12 @@ class Grammar {
 
     private static final Parser.Ref<Character, JValue> jvalue = Parser.ref();
 
+    /**
+     * The parsers are shared, so the key dictionary and limits of the parse in progress are kept per thread.
+     */
+    private static final ThreadLocal<KeyDictionary> keys = ThreadLocal.withInitial(() -> KeyDictionary.NONE);
+    private static final ThreadLocal<ParserLimits> limits = ThreadLocal.withInitial(() -> ParserLimits.DEFAULT);
+
     private static final Parser<Character, JValue> jnull = tok(string("null")).then(retn(jNull().asJValue())).label("null");
 
     private static final Parser<Character, Boolean> jtrue = tok(string("true").then(retn(Boolean.TRUE)));
@@ -115,16 +123,17 @@ class Grammar {
                             jvalue,
                             tok(chr(','))
                     )
-            ).bind(l ->
-                    retn(jArray(IList.toList(l)).asJValue())
-            ).label("array");
+            ).bind(l -> {
+                limits.get().checkContainerSize(l.length());
+                return retn(jArray(IList.toList(l)).asJValue());
+            }).label("array");
 
     private static final Parser<Character, Tuple2<String, JValue>> jfield =
             jstring.bind(name ->
                     tok(chr(':'))
                             .then(jvalue)
                             .bind(value ->
-                                    retn(tuple(name, value))
+                                    retn(tuple(keys.get().key(name), value))
                             )
             );
 
@@ -135,7 +144,10 @@ class Grammar {
                     sepBy(
                             jfield,
                             tok(chr(','))
-                    ).bind(lf -> retn(jObject(lf).asJValue()))
+                    ).bind(lf -> {
+                        limits.get().checkContainerSize(lf.length());
+                        return retn(jObject(lf).asJValue());
+                    })
             ).label("object");
 
     static {
@@ -153,7 +165,14 @@ class Grammar {
 
     private static final Parser<Character, JValue> parser = wspaces.then(jvalue);
 
-    static Reply<Character, JValue> parse(String str) {
-        return parser.parse(State.of(str));
+    static Reply<Character, JValue> parse(String str, KeyDictionary dictionary, ParserLimits parserLimits) {
+        keys.set(dictionary);
+        limits.set(parserLimits);
+        try {
+            return parser.parse(State.of(str));
+        } finally {
+            keys.remove();
+            limits.remove();
+        }
     }
 }
@@ -2,19 +2,70 @@ package net.hamnaberg.json.nativeparser;
 
 import net.hamnaberg.json.Json;
 import net.hamnaberg.json.io.IOUtils;
+import net.hamnaberg.json.io.JsonParseError;
 import net.hamnaberg.json.io.JsonParseException;
 import net.hamnaberg.json.io.JsonParser;
+import net.hamnaberg.json.io.ParserLimits;
 import org.javafp.parsecj.Reply;
 
 import java.io.Reader;
 
 public class NativeJsonParser extends JsonParser {
+    /**
+     * Each level of nesting takes a few kB of stack in the grammar, so the default is lower than for the streaming parsers.
+     */
+    public static final ParserLimits DEFAULT_LIMITS = ParserLimits.DEFAULT.withMaxDepth(256);
+
+    public NativeJsonParser() {
+        this(true);
+    }
+
+    public NativeJsonParser(boolean internKeys) {
+        this(internKeys, DEFAULT_LIMITS);
+    }
+
+    /**
+     * The grammar is recursive, so the thread stack must be large enough for {@link ParserLimits#maxDepth} levels.
+     */
+    public NativeJsonParser(boolean internKeys, ParserLimits limits) {
+        super(internKeys, limits);
+    }
+
     @Override
     protected Json.JValue parseImpl(Reader reader) throws Exception {
         String input = IOUtils.toString(reader);
-        Reply<Character, Json.JValue> reply = Grammar.parse(input);
+        checkDepth(input);
+        Reply<Character, Json.JValue> reply = Grammar.parse(input, newKeyDictionary(), getLimits());
         return reply.match(Reply.Ok::getResult, err -> {
-            throw new JsonParseException(err.getMsg());
+            throw new JsonParseException(JsonParseError.at(err.getMsg(), input, err.msg.position()), null);
         });
     }
+
+    /**
+     * Rejects too deep nesting up front, before the recursive grammar sees it.
+     */
+    private void checkDepth(String input) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                }
+                else if (c == '"') {
+                    inString = false;
+                }
+            }
+            else if (c == '"') {
+                inString = true;
+            }
+            else if (c == '{' || c == '[') {
+                getLimits().checkDepth(++depth);
+            }
+            else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+    }
 }
@@ -2,10 +2,16 @@ package net.hamnaberg.json.nativeparser;
 
 import net.hamnaberg.json.io.JsonParser;
 import net.hamnaberg.json.io.JsonParserAbstractTest;
+import net.hamnaberg.json.io.ParserLimits;
 
 public class NativeJsonParserTest extends JsonParserAbstractTest {
     @Override
     protected JsonParser getParser() {
         return new NativeJsonParser();
     }
+
+    @Override
+    protected JsonParser getParser(ParserLimits limits) {
+        return new NativeJsonParser(true, limits);
+    }
 }
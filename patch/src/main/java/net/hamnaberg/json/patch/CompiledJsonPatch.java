@@ -0,0 +1,41 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.collection.List;
+import net.hamnaberg.json.Json;
+
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A {@link JsonPatch} prepared for repeated application.
+ * Pointers are resolved to their tokens and array indexes, and the operations validated, once.
+ * Instances are immutable and may be shared between threads.
+ */
+public final class CompiledJsonPatch implements UnaryOperator<Json.JValue> {
+    private final Operation[] operations;
+
+    CompiledJsonPatch(List<Operation> operations) {
+        this.operations = operations.toJavaArray(Operation.class);
+        for (Operation op : this.operations) {
+            if (op.op == Operation.Op.Move && op.source.isPrefixOf(op.target) && op.source.length() != op.target.length()) {
+                throw new IllegalStateException(String.format("Cannot move %s into one of its children %s", op.source, op.target));
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if an operation refers to a missing location, or a test fails
+     */
+    @Override
+    public Json.JValue apply(Json.JValue json) {
+        return PatchApplier.apply(json, operations);
+    }
+
+    /**
+     * Applies this patch to every document, in parallel on the common fork join pool.
+     * The returned stream is lazy, and fails with the first document the patch fails for.
+     */
+    public Stream<Json.JValue> applyAll(Stream<Json.JValue> documents) {
+        return documents.parallel().map(this);
+    }
+}
@@ -0,0 +1,178 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.Tuple2;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.pointer.JsonPointer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the operations turning one value into another.
+ * <p>
+ * Equal subtrees are skipped without descending into them, using identity and cached hashes.
+ * Paths are only turned into pointers for the values an operation is emitted for.
+ * Members that were renamed within an object become moves, and arrays are aligned with {@link Lcs}.
+ */
+final class JsonDiff {
+    private final List<Operation> operations = new ArrayList<>();
+
+    private JsonDiff() {
+    }
+
+    static javaslang.collection.List<Operation> diff(Json.JValue from, Json.JValue to) {
+        JsonDiff diff = new JsonDiff();
+        if (!Lcs.same(from, to)) {
+            diff.diff(Path.ROOT, from, to);
+        }
+        return javaslang.collection.List.ofAll(diff.operations);
+    }
+
+    private void diff(Path path, Json.JValue from, Json.JValue to) {
+        if (from instanceof Json.JObject && to instanceof Json.JObject) {
+            diffObject(path, (Json.JObject) from, (Json.JObject) to);
+        }
+        else if (from instanceof Json.JArray && to instanceof Json.JArray) {
+            diffArray(path, (Json.JArray) from, (Json.JArray) to);
+        }
+        else {
+            replace(path, to);
+        }
+    }
+
+    private void diffObject(Path path, Json.JObject from, Json.JObject to) {
+        Map<String, Json.JValue> removed = new LinkedHashMap<>();
+        for (Tuple2<String, Json.JValue> entry : from) {
+            Option<Json.JValue> value = to.get(entry._1);
+            if (value.isDefined()) {
+                if (!Lcs.same(entry._2, value.get())) {
+                    diff(path.child(entry._1), entry._2, value.get());
+                }
+            }
+            else {
+                removed.put(entry._1, entry._2);
+            }
+        }
+
+        Map<Integer, List<String>> removedByHash = new HashMap<>();
+        for (Map.Entry<String, Json.JValue> entry : removed.entrySet()) {
+            removedByHash.computeIfAbsent(entry.getValue().hashCode(), h -> new ArrayList<>(1)).add(entry.getKey());
+        }
+        List<Tuple2<String, Json.JValue>> added = new ArrayList<>();
+        for (Tuple2<String, Json.JValue> entry : to) {
+            if (!from.containsKey(entry._1)) {
+                String source = takeEqual(removedByHash.get(entry._2.hashCode()), removed, entry._2);
+                if (source != null) {
+                    operations.add(new Operation(Operation.Op.Move, Option.of(path.pointer().append(source)), path.pointer().append(entry._1), Option.none()));
+                }
+                else {
+                    added.add(entry);
+                }
+            }
+        }
+        for (String name : removed.keySet()) {
+            operations.add(new Operation(Operation.Op.Remove, Option.none(), path.pointer().append(name), Option.none()));
+        }
+        for (Tuple2<String, Json.JValue> entry : added) {
+            operations.add(new Operation(Operation.Op.Add, Option.none(), path.pointer().append(entry._1), Option.of(entry._2)));
+        }
+    }
+
+    private static String takeEqual(List<String> candidates, Map<String, Json.JValue> removed, Json.JValue value) {
+        if (candidates != null) {
+            Iterator<String> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                String name = iterator.next();
+                if (removed.get(name).equals(value)) {
+                    iterator.remove();
+                    removed.remove(name);
+                    return name;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Positions are tracked as the array is edited, so every operation refers to the array as it is at that point.
+     * A removal directly followed by an insertion is diffed in place instead.
+     */
+    private void diffArray(Path path, Json.JArray from, Json.JArray to) {
+        List<Json.JValue> a = from.getValue().toJavaList();
+        List<Json.JValue> b = to.getValue().toJavaList();
+        int[] matches = Lcs.align(a, b, Lcs.DEFAULT_MAX_CELLS);
+        int position = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size() || j < b.size()) {
+            int nextA = i;
+            while (nextA < a.size() && matches[nextA] == -1) {
+                nextA++;
+            }
+            int nextB = nextA < a.size() ? matches[nextA] : b.size();
+            while (i < nextA && j < nextB) {
+                if (!Lcs.same(a.get(i), b.get(j))) {
+                    diff(path.child(position), a.get(i), b.get(j));
+                }
+                position++;
+                i++;
+                j++;
+            }
+            for (; i < nextA; i++) {
+                operations.add(new Operation(Operation.Op.Remove, Option.none(), path.pointer().append(position), Option.none()));
+            }
+            for (; j < nextB; j++) {
+                operations.add(new Operation(Operation.Op.Add, Option.none(), path.pointer().append(position), Option.of(b.get(j))));
+                position++;
+            }
+            if (nextA < a.size()) {
+                position++;
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private void replace(Path path, Json.JValue value) {
+        operations.add(new Operation(Operation.Op.Replace, Option.none(), path.pointer(), Option.of(value)));
+    }
+
+    /**
+     * A location in the values being diffed, as a link to its parent.
+     * The pointer is built on first use, and shared by the operations on its children.
+     */
+    private static final class Path {
+        static final Path ROOT = new Path(null, null);
+
+        private final Path parent;
+        private final Object segment;
+        private JsonPointer pointer;
+
+        private Path(Path parent, Object segment) {
+            this.parent = parent;
+            this.segment = segment;
+            this.pointer = parent == null ? JsonPointer.compile("") : null;
+        }
+
+        Path child(String name) {
+            return new Path(this, name);
+        }
+
+        Path child(int index) {
+            return new Path(this, index);
+        }
+
+        JsonPointer pointer() {
+            if (pointer == null) {
+                JsonPointer p = parent.pointer();
+                pointer = segment instanceof Integer ? p.append((int) segment) : p.append((String) segment);
+            }
+            return pointer;
+        }
+    }
+}
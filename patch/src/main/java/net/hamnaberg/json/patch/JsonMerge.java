@@ -0,0 +1,173 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.Tuple2;
+import javaslang.collection.List;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.pointer.JsonPointer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Three-way merge of json documents.
+ * <p>
+ * Changes made on only one side are taken as they are. Where both sides changed the same object member
+ * they are merged recursively, and arrays are merged in chunks between the elements both sides kept unchanged,
+ * aligned by their longest common subsequence with the base.
+ * When both sides changed the same location differently, our version is kept and the location is reported as a conflict.
+ * <p>
+ * Subtrees that are the same instance, or have differing hashes, are resolved without comparing them deeply.
+ */
+public final class JsonMerge {
+    private final ArrayList<JsonPointer> conflicts = new ArrayList<>();
+
+    private JsonMerge() {
+    }
+
+    public static Result merge(Json.JValue base, Json.JValue ours, Json.JValue theirs) {
+        JsonMerge merge = new JsonMerge();
+        Json.JValue merged = merge.merge(JsonPointer.compile(""), base, ours, theirs);
+        return new Result(merged, List.ofAll(merge.conflicts));
+    }
+
+    public static final class Result {
+        public final Json.JValue value;
+        /**
+         * Locations in the merged value where both sides made different changes, and ours was kept.
+         */
+        public final List<JsonPointer> conflicts;
+
+        private Result(Json.JValue value, List<JsonPointer> conflicts) {
+            this.value = value;
+            this.conflicts = conflicts;
+        }
+
+        public boolean isClean() {
+            return conflicts.isEmpty();
+        }
+    }
+
+    private Json.JValue merge(JsonPointer path, Json.JValue base, Json.JValue ours, Json.JValue theirs) {
+        if (Lcs.same(ours, theirs) || Lcs.same(base, theirs)) {
+            return ours;
+        }
+        if (Lcs.same(base, ours)) {
+            return theirs;
+        }
+        if (base instanceof Json.JObject && ours instanceof Json.JObject && theirs instanceof Json.JObject) {
+            return mergeObject(path, (Json.JObject) base, (Json.JObject) ours, (Json.JObject) theirs);
+        }
+        if (base instanceof Json.JArray && ours instanceof Json.JArray && theirs instanceof Json.JArray) {
+            return mergeArray(path, (Json.JArray) base, (Json.JArray) ours, (Json.JArray) theirs);
+        }
+        conflicts.add(path);
+        return ours;
+    }
+
+    private Json.JValue mergeObject(JsonPointer path, Json.JObject base, Json.JObject ours, Json.JObject theirs) {
+        LinkedHashMap<String, Json.JValue> merged = new LinkedHashMap<>();
+        for (Tuple2<String, Json.JValue> entry : ours) {
+            Option<Json.JValue> b = base.get(entry._1);
+            Option<Json.JValue> t = theirs.get(entry._1);
+            if (t.isDefined()) {
+                merged.put(entry._1, b.isDefined()
+                        ? merge(path.append(entry._1), b.get(), entry._2, t.get())
+                        : mergeAdded(path.append(entry._1), entry._2, t.get()));
+            }
+            else if (b.isEmpty()) {
+                merged.put(entry._1, entry._2);
+            }
+            else if (!Lcs.same(b.get(), entry._2)) {
+                // we changed what they removed
+                conflicts.add(path.append(entry._1));
+                merged.put(entry._1, entry._2);
+            }
+        }
+        for (Tuple2<String, Json.JValue> entry : theirs) {
+            if (ours.containsKey(entry._1)) {
+                continue;
+            }
+            Option<Json.JValue> b = base.get(entry._1);
+            if (b.isEmpty()) {
+                merged.put(entry._1, entry._2);
+            }
+            else if (!Lcs.same(b.get(), entry._2)) {
+                // they changed what we removed
+                conflicts.add(path.append(entry._1));
+            }
+        }
+        return Json.jObject(merged);
+    }
+
+    private Json.JValue mergeAdded(JsonPointer path, Json.JValue ours, Json.JValue theirs) {
+        if (!Lcs.same(ours, theirs)) {
+            conflicts.add(path);
+        }
+        return ours;
+    }
+
+    /**
+     * A diff3 style merge. Base elements kept by both sides split the arrays into chunks, and each chunk is taken from
+     * whichever side changed it. Chunks both sides changed are merged element wise if all three have the same length,
+     * and are conflicts otherwise.
+     */
+    private Json.JValue mergeArray(JsonPointer path, Json.JArray base, Json.JArray ours, Json.JArray theirs) {
+        java.util.List<Json.JValue> b = base.getValue().toJavaList();
+        java.util.List<Json.JValue> o = ours.getValue().toJavaList();
+        java.util.List<Json.JValue> t = theirs.getValue().toJavaList();
+        int[] matchOurs = Lcs.align(b, o, Lcs.DEFAULT_MAX_CELLS);
+        int[] matchTheirs = Lcs.align(b, t, Lcs.DEFAULT_MAX_CELLS);
+
+        ArrayList<Json.JValue> merged = new ArrayList<>(Math.max(o.size(), t.size()));
+        int ib = 0;
+        int io = 0;
+        int it = 0;
+        while (ib <= b.size()) {
+            int stable = ib;
+            while (stable < b.size() && (matchOurs[stable] == -1 || matchTheirs[stable] == -1)) {
+                stable++;
+            }
+            int endOurs = stable < b.size() ? matchOurs[stable] : o.size();
+            int endTheirs = stable < b.size() ? matchTheirs[stable] : t.size();
+            mergeChunk(path, merged, b.subList(ib, stable), o.subList(io, endOurs), t.subList(it, endTheirs));
+            if (stable < b.size()) {
+                merged.add(o.get(endOurs));
+            }
+            ib = stable + 1;
+            io = endOurs + 1;
+            it = endTheirs + 1;
+        }
+        return Json.jArray(merged);
+    }
+
+    private void mergeChunk(JsonPointer path, java.util.List<Json.JValue> merged, java.util.List<Json.JValue> base, java.util.List<Json.JValue> ours, java.util.List<Json.JValue> theirs) {
+        if (sameElements(base, ours)) {
+            merged.addAll(theirs);
+        }
+        else if (sameElements(base, theirs) || sameElements(ours, theirs)) {
+            merged.addAll(ours);
+        }
+        else if (base.size() == ours.size() && base.size() == theirs.size()) {
+            for (int i = 0; i < base.size(); i++) {
+                merged.add(merge(path.append(merged.size()), base.get(i), ours.get(i), theirs.get(i)));
+            }
+        }
+        else {
+            conflicts.add(path.append(merged.size()));
+            merged.addAll(ours);
+        }
+    }
+
+    private static boolean sameElements(java.util.List<Json.JValue> a, java.util.List<Json.JValue> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!Lcs.same(a.get(i), b.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
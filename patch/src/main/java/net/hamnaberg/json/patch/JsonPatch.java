@@ -2,6 +2,7 @@ package net.hamnaberg.json.patch;
 
 
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javaslang.collection.List;
 import javaslang.control.Option;
@@ -15,7 +16,19 @@ public final class JsonPatch implements Function<Json.JValue, Json.JValue> {
         return new JsonPatch(operations);
     }
 
+    /**
+     * Computes a patch that turns {@code from} into {@code to}.
+     * <p>
+     * Unchanged subtrees are recognized by identity or hash and skipped, members renamed within an object become moves,
+     * and arrays are diffed element wise along their longest common subsequence.
+     * Very large array edits fall back to removing and adding the differing elements.
+     */
+    public static JsonPatch diff(Json.JValue from, Json.JValue to) {
+        return new JsonPatch(JsonDiff.diff(from, to));
+    }
+
     private final List<Operation> operations;
+    private CompiledJsonPatch compiled;
 
     public JsonPatch() {
         this(List.empty());
@@ -77,31 +90,67 @@ public final class JsonPatch implements Function<Json.JValue, Json.JValue> {
         return new JsonPatch(this.operations.append(new Operation(op, from, path, value)));
     }
 
+    /**
+     * A patch applying the operations of this patch, followed by those of {@code other}.
+     */
+    public JsonPatch concat(JsonPatch other) {
+        return new JsonPatch(this.operations.appendAll(other.operations));
+    }
+
+    /**
+     * An equivalent patch without operations that are overwritten or cancelled by later ones,
+     * such as an add followed by a remove, or repeated replaces of the same path.
+     * It has the same effect as this patch on every document this patch applies to.
+     */
+    public JsonPatch squash() {
+        return new JsonPatch(PatchSquasher.squash(operations));
+    }
+
+    /**
+     * Composes the patches, in order, into a single squashed patch.
+     *
+     * @see #squash()
+     */
+    public static JsonPatch squash(Iterable<JsonPatch> patches) {
+        List<Operation> operations = List.empty();
+        for (JsonPatch patch : patches) {
+            operations = operations.appendAll(patch.operations);
+        }
+        return new JsonPatch(PatchSquasher.squash(operations));
+    }
+
+    /**
+     * Applies all operations in order. Operations sharing parents write into the same transient copy of them,
+     * so the cost is close to linear in the size of the touched parts of the document plus the number of operations.
+     *
+     * @throws IllegalStateException if an operation refers to a missing location, or a test fails
+     */
     public Json.JValue apply(final Json.JValue json) {
-        Json.JValue modified = json;
-        for (Operation op : operations) {
-            switch (op.op) {
-                case Add:
-                    modified = op.path.add(modified, op.value.getOrElseThrow(() -> new IllegalStateException("Missing value")));
-                    break;
-                case Remove:
-                    modified = op.path.remove(modified);
-                    break;
-                case Replace:
-                    modified = op.path.replace(modified, op.value.getOrElseThrow(() -> new IllegalStateException("Missing value")));
-                    break;
-                case Move:
-                    modified = op.path.move(json, op.from.getOrElseThrow(() -> new IllegalStateException("Missing from")));
-                    break;
-                case Copy:
-                    modified = op.path.copy(json, op.from.getOrElseThrow(() -> new IllegalStateException("Missing from")));
-                    break;
-                case Test:
-                    modified = op.path.test(json, op.value.getOrElseThrow(() -> new IllegalStateException("Missing value"))) ? modified : modified;
-                    break;
-            }
+        return compile().apply(json);
+    }
+
+    /**
+     * Applies this patch to every document, in parallel on the common fork join pool.
+     *
+     * @see CompiledJsonPatch#applyAll(Stream)
+     */
+    public Stream<Json.JValue> applyAll(Stream<Json.JValue> documents) {
+        return compile().applyAll(documents);
+    }
+
+    /**
+     * Validates the operations once, and returns a thread safe function for applying them to many documents.
+     * The result is kept, so it is only compiled once however often this patch is applied.
+     *
+     * @throws IllegalStateException if an operation can never succeed, such as moving a value into its own child
+     */
+    public CompiledJsonPatch compile() {
+        CompiledJsonPatch c = compiled;
+        if (c == null) {
+            c = new CompiledJsonPatch(operations);
+            compiled = c;
         }
-        return modified;
+        return c;
     }
 
     public Json.JArray toJson() {
@@ -0,0 +1,85 @@
+package net.hamnaberg.json.patch;
+
+import net.hamnaberg.json.Json;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aligns two arrays by their longest common subsequence.
+ * <p>
+ * The common prefix and suffix are matched first, which is linear and covers most edits.
+ * Only what remains in the middle goes through the quadratic table, and only if it has at most {@code maxCells} cells,
+ * otherwise the middle is left unmatched.
+ */
+final class Lcs {
+    static final int DEFAULT_MAX_CELLS = 1 << 20;
+
+    private Lcs() {
+    }
+
+    /**
+     * @return for each element of {@code a}, the index of the matching element in {@code b}, or -1
+     */
+    static int[] align(List<Json.JValue> a, List<Json.JValue> b, int maxCells) {
+        int n = a.size();
+        int m = b.size();
+        int[] matches = new int[n];
+        Arrays.fill(matches, -1);
+
+        int start = 0;
+        while (start < n && start < m && same(a.get(start), b.get(start))) {
+            matches[start] = start;
+            start++;
+        }
+        int endA = n;
+        int endB = m;
+        while (endA > start && endB > start && same(a.get(endA - 1), b.get(endB - 1))) {
+            endA--;
+            endB--;
+            matches[endA] = endB;
+        }
+
+        int rows = endA - start;
+        int columns = endB - start;
+        if (rows == 0 || columns == 0 || (long) (rows + 1) * (columns + 1) > maxCells) {
+            return matches;
+        }
+
+        // lengths[i][j] is the length of the lcs of a[start + i..endA) and b[start + j..endB)
+        int width = columns + 1;
+        int[] lengths = new int[(rows + 1) * width];
+        for (int i = rows - 1; i >= 0; i--) {
+            Json.JValue x = a.get(start + i);
+            for (int j = columns - 1; j >= 0; j--) {
+                lengths[i * width + j] = same(x, b.get(start + j))
+                        ? lengths[(i + 1) * width + j + 1] + 1
+                        : Math.max(lengths[(i + 1) * width + j], lengths[i * width + j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < rows && j < columns) {
+            if (same(a.get(start + i), b.get(start + j))) {
+                matches[start + i] = start + j;
+                i++;
+                j++;
+            }
+            else if (lengths[(i + 1) * width + j] >= lengths[i * width + j + 1]) {
+                i++;
+            }
+            else {
+                j++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Equality that avoids the deep comparison when the values are the same instance, or their hashes differ.
+     * Container hashes are cached, so this is cheap when comparing the same values repeatedly.
+     */
+    static boolean same(Json.JValue a, Json.JValue b) {
+        return a == b || (a.hashCode() == b.hashCode() && a.equals(b));
+    }
+}
@@ -0,0 +1,49 @@
+package net.hamnaberg.json.patch;
+
+import net.hamnaberg.json.pointer.JsonPointer;
+
+/**
+ * The reference tokens of a pointer, resolved once, with the array indexes the pointer has parsed.
+ */
+final class Location {
+    static final int NOT_AN_INDEX = -1;
+    static final int END_OF_ARRAY = -2;
+
+    final String[] names;
+    final int[] indexes;
+
+    Location(JsonPointer pointer) {
+        this.names = pointer.tokens().toJavaArray(String.class);
+        this.indexes = pointer.indexes();
+        for (int i = 0; i < names.length; i++) {
+            if (indexes[i] == NOT_AN_INDEX && names[i].equals("-")) {
+                indexes[i] = END_OF_ARRAY;
+            }
+        }
+    }
+
+    int length() {
+        return names.length;
+    }
+
+    boolean isPrefixOf(Location other) {
+        if (names.length > other.names.length) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].equals(other.names[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (String name : names) {
+            sb.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+        }
+        return sb.toString();
+    }
+}
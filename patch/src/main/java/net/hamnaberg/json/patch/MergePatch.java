@@ -1,11 +1,15 @@
 package net.hamnaberg.json.patch;
 
-import javaslang.collection.Map;
+import javaslang.Tuple2;
+import javaslang.collection.List;
 import javaslang.control.Option;
 import net.hamnaberg.json.Json;
 import net.hamnaberg.json.Json.*;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of Json Merge Patch as defined by <a href="http://tools.ietf.org/html/rfc7396">RFC7396</a>
@@ -14,59 +18,145 @@ public abstract class MergePatch {
     private MergePatch() {
     }
 
+    /**
+     * Computes a merge patch turning {@code obj1} into {@code obj2}.
+     * Shared subtrees are recognized by identity or cached hash before any deep comparison,
+     * and values from {@code obj2} are reused in the patch as they are.
+     * Nested objects are kept on an explicit stack, so nesting depth is not bounded by the thread stack.
+     */
     public static JValue diff(JValue obj1, JValue obj2) {
         if (!obj1.isObject() || !obj2.isObject()) {
             return obj2;
         }
 
-        JObject object1 = obj1.asJsonObject().getOrElse(Json.jEmptyObject());
-        JObject object2 = obj2.asJsonObject().getOrElse(Json.jEmptyObject());
-
-        LinkedHashMap<String, JValue> map = new LinkedHashMap<>();
-        object1.forEach((k, v) -> {
-            if (object2.containsKey(k)) {
-                JValue value = object2.getOrDefault(k, Json.jNull());
-                if (!value.equals(v)) {
-                    map.put(k, diff(v, value));
+        ArrayList<DiffFrame> stack = new ArrayList<>();
+        stack.add(new DiffFrame(null, (JObject) obj1, (JObject) obj2));
+        while (true) {
+            DiffFrame frame = stack.get(stack.size() - 1);
+            if (frame.entries.hasNext()) {
+                Tuple2<String, JValue> entry = frame.entries.next();
+                Option<JValue> value = frame.to.get(entry._1);
+                if (value.isEmpty()) {
+                    frame.map.put(entry._1, Json.jNull());
+                }
+                else if (same(entry._2, value.get())) {
+                    continue;
+                }
+                else if (entry._2.isObject() && value.get().isObject()) {
+                    stack.add(new DiffFrame(entry._1, (JObject) entry._2, (JObject) value.get()));
+                }
+                else {
+                    frame.map.put(entry._1, value.get());
                 }
             }
             else {
-                map.put(k, Json.jNull());
-            }
-        });
-
-        object2.forEach((k, v) -> {
-            if (!object1.containsKey(k)) {
-                map.put(k, v);
+                for (Tuple2<String, JValue> entry : frame.to) {
+                    if (!frame.from.containsKey(entry._1)) {
+                        frame.map.put(entry._1, entry._2);
+                    }
+                }
+                stack.remove(stack.size() - 1);
+                JObject patch = Json.jObject(frame.map);
+                if (stack.isEmpty()) {
+                    return patch;
+                }
+                stack.get(stack.size() - 1).map.put(frame.key, patch);
             }
-        });
+        }
+    }
 
-        return Json.jObject(map);
+    private static boolean same(JValue a, JValue b) {
+        return a == b || (a.hashCode() == b.hashCode() && a.equals(b));
     }
 
+    /**
+     * Applies a merge patch. Every object the patch touches is copied once into a mutable builder,
+     * and everything it does not touch is shared with the target.
+     * Nested objects are kept on an explicit stack, so nesting depth is not bounded by the thread stack.
+     */
     public static JValue patch(JValue target, JValue patchValue) {
-        Option<JObject> maybeTarget = target.asJsonObject();
-        if (patchValue.asJsonObject().isEmpty()) {
+        if (!patchValue.isObject()) {
             return patchValue;
         }
-        else {
-            JObject object = maybeTarget.getOrElse(Json.jEmptyObject());
-            JObject patch = patchValue.asJsonObject().getOrElse(Json.jEmptyObject());
-
-            Map<String, JValue> map = object.getValue();
+        JObject patch = (JObject) patchValue;
+        JObject object = target.isObject() ? (JObject) target : Json.jEmptyObject();
+        if (patch.isEmpty()) {
+            return object;
+        }
 
-            patch.forEach((k, v) -> {
-                if (v.asJsonNull().isDefined()) {
-                    if (map.containsKey(k)) {
-                        map.remove(k);
+        ArrayList<PatchFrame> stack = new ArrayList<>();
+        stack.add(new PatchFrame(null, object, patch));
+        while (true) {
+            PatchFrame frame = stack.get(stack.size() - 1);
+            if (frame.entries.hasNext()) {
+                Tuple2<String, JValue> entry = frame.entries.next();
+                if (entry._2.isNull()) {
+                    frame.map.remove(entry._1);
+                }
+                else if (!entry._2.isObject()) {
+                    frame.map.put(entry._1, entry._2);
+                }
+                else {
+                    JValue existing = frame.map.get(entry._1);
+                    JObject nested = existing != null && existing.isObject() ? (JObject) existing : Json.jEmptyObject();
+                    if (((JObject) entry._2).isEmpty()) {
+                        frame.map.put(entry._1, nested);
+                    }
+                    else {
+                        stack.add(new PatchFrame(entry._1, nested, (JObject) entry._2));
                     }
-                } else if (map.containsKey(k)) {
-                    map.put(k, patch(map.apply(k), v));
-                } else {
-                    map.put(k, patch(Json.jEmptyObject(), v));
                 }
-            });
-            return Json.jObject(map);
+            }
+            else {
+                stack.remove(stack.size() - 1);
+                JObject patched = Json.jObject(frame.map);
+                if (stack.isEmpty()) {
+                    return patched;
+                }
+                stack.get(stack.size() - 1).map.put(frame.key, patched);
+            }
+        }
+    }
+
+    /**
+     * Applies the same merge patch to every target, in parallel on the common fork join pool.
+     * The order of the result matches the order of the targets.
+     */
+    public static List<JValue> patchAll(Iterable<JValue> targets, JValue patchValue) {
+        return List.ofAll(
+                List.ofAll(targets).toJavaList().parallelStream()
+                        .map(target -> patch(target, patchValue))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private static final class DiffFrame {
+        private final String key;
+        private final JObject from;
+        private final JObject to;
+        private final Iterator<Tuple2<String, JValue>> entries;
+        private final LinkedHashMap<String, JValue> map = new LinkedHashMap<>();
+
+        DiffFrame(String key, JObject from, JObject to) {
+            this.key = key;
+            this.from = from;
+            this.to = to;
+            this.entries = from.iterator();
+        }
+    }
+
+    private static final class PatchFrame {
+        private final String key;
+        private final Iterator<Tuple2<String, JValue>> entries;
+        private final LinkedHashMap<String, JValue> map;
+
+        PatchFrame(String key, JObject object, JObject patch) {
+            this.key = key;
+            this.entries = patch.iterator();
+            this.map = new LinkedHashMap<>((object.size() + patch.size()) * 2);
+            for (Tuple2<String, JValue> entry : object) {
+                map.put(entry._1, entry._2);
+            }
         }
     }
 }
@@ -37,12 +37,21 @@ class Operation {
     public final Option<JsonPointer> from;
     public final JsonPointer path;
     public final Option<Json.JValue> value;
+    final Location target;
+    final Location source;
 
     public Operation(Op op, Option<JsonPointer> from, JsonPointer path, Option<Json.JValue> value) {
         this.op = op;
         this.from = from;
         this.path = path;
         this.value = value;
+        this.target = new Location(path);
+        this.source = from.map(Location::new).getOrElse((Location) null);
+        if (EnumSet.of(Op.Move, Op.Copy).contains(op)) {
+            if (!from.isDefined()) {
+                throw new IllegalArgumentException(String.format("Op '%s' requires from", op.value));
+            }
+        }
         if (EnumSet.of(Op.Add, Op.Replace, Op.Test).contains(op)) {
             if (!value.isDefined()) {
                 throw new IllegalArgumentException(String.format("Op '%s' requires a value", op.value));
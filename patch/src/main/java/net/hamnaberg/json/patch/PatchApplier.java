@@ -0,0 +1,254 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.Tuple2;
+import net.hamnaberg.json.Json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Applies a sequence of operations against a transient, partly mutable copy of the document.
+ * <p>
+ * A container is copied into a mutable {@link LinkedHashMap} or {@link ArrayList} the first time an operation writes
+ * below it, and later operations under the same parent write into that copy instead of rebuilding it.
+ * Untouched subtrees stay as the original immutable values, and are shared by the result, which is frozen once at the end.
+ * Mutable containers are never shared, values copied out of the document are frozen first.
+ */
+final class PatchApplier {
+    private Object root;
+
+    private PatchApplier(Json.JValue root) {
+        this.root = root;
+    }
+
+    static Json.JValue apply(Json.JValue json, Operation[] operations) {
+        PatchApplier applier = new PatchApplier(json);
+        for (Operation op : operations) {
+            applier.apply(op);
+        }
+        return freeze(applier.root);
+    }
+
+    private void apply(Operation op) {
+        switch (op.op) {
+            case Add:
+                add(op.target, op.value.get());
+                break;
+            case Remove:
+                remove(op.target);
+                break;
+            case Replace:
+                replace(op.target, op.value.get());
+                break;
+            case Move:
+                move(op.source, op.target);
+                break;
+            case Copy:
+                add(op.target, freeze(get(op.source)));
+                break;
+            case Test:
+                Json.JValue actual = freeze(get(op.target));
+                if (!actual.equals(op.value.get())) {
+                    throw new IllegalStateException(String.format("Test failed, value at %s was %s", op.path, actual));
+                }
+                break;
+        }
+    }
+
+    private void add(Location path, Object value) {
+        int last = path.length() - 1;
+        if (last < 0) {
+            root = value;
+            return;
+        }
+        Object parent = mutableParent(path);
+        if (parent instanceof Map) {
+            asMap(parent).put(path.names[last], value);
+        }
+        else if (parent instanceof ArrayList) {
+            ArrayList<Object> list = asList(parent);
+            int index = path.indexes[last];
+            if (index == Location.END_OF_ARRAY) {
+                list.add(value);
+            }
+            else {
+                if (index > list.size()) {
+                    throw new IllegalStateException(String.format("List index %s is out-of-bounds", index));
+                }
+                list.add(validIndex(path, last), value);
+            }
+        }
+        else {
+            throw new IllegalStateException(String.format("Cannot add %s to a %s", path, parent));
+        }
+    }
+
+    private Object remove(Location path) {
+        int last = path.length() - 1;
+        if (last < 0) {
+            return root;
+        }
+        Object parent = mutableParent(path);
+        if (parent instanceof Map) {
+            Object removed = asMap(parent).remove(path.names[last]);
+            if (removed == null) {
+                throw new IllegalStateException("No value with name: " + path.names[last]);
+            }
+            return removed;
+        }
+        else if (parent instanceof ArrayList) {
+            ArrayList<Object> list = asList(parent);
+            return list.remove(existingIndex(list.size(), path, last));
+        }
+        throw new IllegalStateException("No value with name: " + path.names[last]);
+    }
+
+    private void replace(Location path, Json.JValue value) {
+        int last = path.length() - 1;
+        if (last < 0) {
+            root = value;
+            return;
+        }
+        Object parent = mutableParent(path);
+        String name = path.names[last];
+        if (parent instanceof Map && asMap(parent).containsKey(name)) {
+            asMap(parent).put(name, value);
+        }
+        else if (parent instanceof ArrayList) {
+            ArrayList<Object> list = asList(parent);
+            list.set(existingIndex(list.size(), path, last), value);
+        }
+        else {
+            throw new IllegalStateException("No value with name: " + name);
+        }
+    }
+
+    private void move(Location from, Location path) {
+        if (from.isPrefixOf(path)) {
+            if (from.length() == path.length()) {
+                get(from);
+                return;
+            }
+            throw new IllegalStateException(String.format("Cannot move %s into one of its children", from));
+        }
+        add(path, remove(from));
+    }
+
+    private Object get(Location path) {
+        Object current = root;
+        for (int i = 0; i < path.length(); i++) {
+            current = child(current, path, i);
+        }
+        return current;
+    }
+
+    /**
+     * Makes every container from the root down to the parent of the path mutable.
+     */
+    private Object mutableParent(Location path) {
+        root = thaw(root);
+        Object current = root;
+        for (int i = 0; i < path.length() - 1; i++) {
+            Object child = child(current, path, i);
+            Object thawed = thaw(child);
+            if (thawed != child) {
+                if (current instanceof Map) {
+                    asMap(current).put(path.names[i], thawed);
+                }
+                else {
+                    asList(current).set(path.indexes[i], thawed);
+                }
+            }
+            current = thawed;
+        }
+        return current;
+    }
+
+    private static Object child(Object container, Location path, int i) {
+        Object child = null;
+        if (container instanceof Map) {
+            child = asMap(container).get(path.names[i]);
+        }
+        else if (container instanceof ArrayList) {
+            ArrayList<Object> list = asList(container);
+            child = list.get(existingIndex(list.size(), path, i));
+        }
+        else if (container instanceof Json.JObject) {
+            child = ((Json.JObject) container).get(path.names[i]).getOrElse((Json.JValue) null);
+        }
+        else if (container instanceof Json.JArray) {
+            Json.JArray array = (Json.JArray) container;
+            child = array.getValue().get(existingIndex(array.size(), path, i));
+        }
+        if (child == null) {
+            throw new IllegalStateException("No value with name: " + path.names[i]);
+        }
+        return child;
+    }
+
+    private static Object thaw(Object value) {
+        if (value instanceof Json.JObject) {
+            Json.JObject object = (Json.JObject) value;
+            LinkedHashMap<String, Object> map = new LinkedHashMap<>(object.size() * 2);
+            for (Tuple2<String, Json.JValue> entry : object) {
+                map.put(entry._1, entry._2);
+            }
+            return map;
+        }
+        if (value instanceof Json.JArray) {
+            ArrayList<Object> list = new ArrayList<>(((Json.JArray) value).size() + 1);
+            for (Json.JValue element : (Json.JArray) value) {
+                list.add(element);
+            }
+            return list;
+        }
+        return value;
+    }
+
+    private static Json.JValue freeze(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = asMap(value);
+            LinkedHashMap<String, Json.JValue> frozen = new LinkedHashMap<>(map.size() * 2);
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                frozen.put(entry.getKey(), freeze(entry.getValue()));
+            }
+            return Json.jObject(frozen);
+        }
+        if (value instanceof ArrayList) {
+            ArrayList<Object> list = asList(value);
+            ArrayList<Json.JValue> frozen = new ArrayList<>(list.size());
+            for (Object element : list) {
+                frozen.add(freeze(element));
+            }
+            return Json.jArray(frozen);
+        }
+        return (Json.JValue) value;
+    }
+
+    private static int existingIndex(int size, Location path, int i) {
+        int index = validIndex(path, i);
+        if (index >= size) {
+            throw new IllegalStateException(String.format("List index %s is out-of-bounds", index));
+        }
+        return index;
+    }
+
+    private static int validIndex(Location path, int i) {
+        int index = path.indexes[i];
+        if (index < 0) {
+            throw new IllegalStateException(String.format("'%s' is not a valid list index", path.names[i]));
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayList<Object> asList(Object value) {
+        return (ArrayList<Object>) value;
+    }
+}
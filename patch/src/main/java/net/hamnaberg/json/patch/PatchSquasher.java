@@ -0,0 +1,124 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.collection.List;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Collapses a sequence of operations into an equivalent, usually shorter, one.
+ * <p>
+ * Add, replace and remove on paths made up of member names only are tracked per path, and only their net effect is kept:
+ * whether the path had to exist beforehand, and whether it ends up with a value or removed.
+ * Writing to a path discards everything tracked below it, as the whole subtree is overwritten.
+ * <p>
+ * Any other operation, test, move and copy, and operations on array elements or the whole document,
+ * depend on positions or values that are not tracked. They act as barriers: everything tracked so far is
+ * written out in order, and the operation is kept as it is.
+ * <p>
+ * The result has the same effect as the original on every document the original applies to.
+ */
+final class PatchSquasher {
+    private final ArrayList<Operation> output = new ArrayList<>();
+    private final TreeMap<String, Slot> tracked = new TreeMap<>();
+    private long sequence;
+
+    private PatchSquasher() {
+    }
+
+    static List<Operation> squash(Iterable<Operation> operations) {
+        PatchSquasher squasher = new PatchSquasher();
+        for (Operation op : operations) {
+            squasher.accept(op);
+        }
+        squasher.flush();
+        return List.ofAll(squasher.output);
+    }
+
+    private void accept(Operation op) {
+        if (!isTrackable(op)) {
+            flush();
+            output.add(op);
+            return;
+        }
+        String key = op.path.toString();
+        Slot slot = tracked.get(key);
+        if (slot != null && slot.value == null && op.op != Operation.Op.Add) {
+            // replacing or removing a value that was removed will fail, leave that to the original operation
+            flush();
+            output.add(op);
+            return;
+        }
+        discardBelow(key);
+        if (slot == null) {
+            slot = new Slot(op, sequence++, op.op != Operation.Op.Add);
+            tracked.put(key, slot);
+        }
+        slot.value = op.op == Operation.Op.Remove ? null : op.value.get();
+        if (op.op == Operation.Op.Add) {
+            slot.added = op.value.get();
+        }
+    }
+
+    private static boolean isTrackable(Operation op) {
+        if (op.op != Operation.Op.Add && op.op != Operation.Op.Replace && op.op != Operation.Op.Remove) {
+            return false;
+        }
+        if (op.target.length() == 0) {
+            return false;
+        }
+        for (int index : op.target.indexes) {
+            if (index != Location.NOT_AN_INDEX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void discardBelow(String key) {
+        // '0' is the character after '/', so this range holds exactly the paths below the key
+        NavigableMap<String, Slot> below = tracked.subMap(key + "/", true, key + "0", false);
+        below.clear();
+    }
+
+    private void flush() {
+        ArrayList<Slot> slots = new ArrayList<>(tracked.values());
+        slots.sort(Comparator.comparingLong(slot -> slot.sequence));
+        for (Slot slot : slots) {
+            slot.emit(output);
+        }
+        tracked.clear();
+    }
+
+    private static final class Slot {
+        final Operation first;
+        final long sequence;
+        final boolean mustExist;
+        Json.JValue value;
+        Json.JValue added;
+
+        Slot(Operation first, long sequence, boolean mustExist) {
+            this.first = first;
+            this.sequence = sequence;
+            this.mustExist = mustExist;
+        }
+
+        void emit(java.util.List<Operation> output) {
+            if (value != null) {
+                Operation.Op op = mustExist ? Operation.Op.Replace : Operation.Op.Add;
+                output.add(new Operation(op, Option.none(), first.path, Option.of(value)));
+            }
+            else {
+                if (!mustExist) {
+                    // the path may not have existed, so it is added before it is removed
+                    output.add(new Operation(Operation.Op.Add, Option.none(), first.path, Option.of(added)));
+                }
+                output.add(new Operation(Operation.Op.Remove, Option.none(), first.path, Option.none()));
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Diffs the document and the expected result of every successful conformance test, and applies the diff.
+ */
+@RunWith(Parameterized.class)
+public class JsonDiffTest {
+    private final String name;
+    private final Json.JValue document;
+    private final Json.JValue expected;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() throws Exception {
+        List<Object[]> data = new ArrayList<>();
+        data.addAll(RFC9602Test.buildTestSpec(JsonDiffTest.class.getResourceAsStream("/spec_tests.json")));
+        data.addAll(RFC9602Test.buildTestSpec(JsonDiffTest.class.getResourceAsStream("/tests.json")));
+        data.removeIf(test -> ((Option<?>) test[3]).isEmpty());
+        return data;
+    }
+
+    public JsonDiffTest(String name, Json.JValue document, Json.JArray patch, Option<Json.JValue> expected) {
+        this.name = name;
+        this.document = document;
+        this.expected = expected.get();
+    }
+
+    @Test
+    public void diffTurnsDocumentIntoExpected() {
+        assertEquals(expected, JsonPatch.diff(document, expected).apply(document));
+    }
+
+    @Test
+    public void diffOfEqualDocumentsIsEmpty() {
+        assertEquals(Json.jEmptyArray(), JsonPatch.diff(document, document).toJson());
+    }
+}
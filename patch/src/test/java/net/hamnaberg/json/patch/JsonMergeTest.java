@@ -0,0 +1,65 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.collection.List;
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.pointer.JsonPointer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JsonMergeTest {
+    private final Json.JObject base = Json.jObject(
+            Json.tuple("name", Json.jString("base")),
+            Json.tuple("removed", Json.jNumber(1)),
+            Json.tuple("nested", Json.jObject(Json.tuple("a", Json.jNumber(1)), Json.tuple("b", Json.jNumber(2)))),
+            Json.tuple("list", Json.jArray(Json.jString("x"), Json.jString("y"), Json.jString("z")))
+    );
+
+    @Test
+    public void combinesChangesFromBothSides() {
+        Json.JObject ours = base
+                .put("name", Json.jString("ours"))
+                .remove("removed")
+                .put("nested", Json.jObject(Json.tuple("a", Json.jNumber(10)), Json.tuple("b", Json.jNumber(2))))
+                .put("list", Json.jArray(Json.jString("w"), Json.jString("x"), Json.jString("y"), Json.jString("z")));
+        Json.JObject theirs = base
+                .put("added", Json.jBoolean(true))
+                .put("nested", Json.jObject(Json.tuple("a", Json.jNumber(1)), Json.tuple("b", Json.jNumber(20))))
+                .put("list", Json.jArray(Json.jString("x"), Json.jString("y")));
+
+        JsonMerge.Result result = JsonMerge.merge(base, ours, theirs);
+        Json.JObject expected = Json.jObject(
+                Json.tuple("name", Json.jString("ours")),
+                Json.tuple("nested", Json.jObject(Json.tuple("a", Json.jNumber(10)), Json.tuple("b", Json.jNumber(20)))),
+                Json.tuple("list", Json.jArray(Json.jString("w"), Json.jString("x"), Json.jString("y"))),
+                Json.tuple("added", Json.jBoolean(true))
+        );
+        assertTrue(result.isClean());
+        assertEquals(expected, result.value);
+    }
+
+    @Test
+    public void reportsConflictsAndKeepsOurs() {
+        Json.JObject ours = base
+                .put("name", Json.jString("ours"))
+                .put("list", Json.jArray(Json.jString("x"), Json.jString("ours"), Json.jString("z")));
+        Json.JObject theirs = base
+                .put("name", Json.jString("theirs"))
+                .put("list", Json.jArray(Json.jString("x"), Json.jString("theirs"), Json.jString("z")))
+                .remove("removed");
+
+        JsonMerge.Result result = JsonMerge.merge(base, ours, theirs);
+        assertEquals(List.of(JsonPointer.compile("/name"), JsonPointer.compile("/list/1")), result.conflicts);
+        assertEquals(ours.remove("removed"), result.value);
+    }
+
+    @Test
+    public void changedOnOneSideIsTakenAsIs() {
+        Json.JObject theirs = base.put("name", Json.jString("theirs"));
+        JsonMerge.Result result = JsonMerge.merge(base, base, theirs);
+        assertSame(theirs, result.value);
+        assertTrue(result.isClean());
+    }
+}
@@ -0,0 +1,120 @@
+package net.hamnaberg.json.patch;
+
+import net.hamnaberg.json.Json;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class JsonPatchTest {
+    private final Json.JObject json = Json.jObject(
+            Json.tuple("a", Json.jObject(Json.tuple("b", Json.jNumber(1)))),
+            Json.tuple("untouched", Json.jArray(Json.jString("x")))
+    );
+
+    @Test
+    public void laterOperationsSeeEarlierOnes() {
+        JsonPatch patch = new JsonPatch()
+                .add("/a/c", Json.jNumber(2))
+                .add("/a/d", Json.jEmptyArray())
+                .add("/a/d/-", Json.jString("e"))
+                .copy("/a/c", "/a/d/0")
+                .move("/a/b", "/b")
+                .test("/a/d", Json.jArray(Json.jNumber(2), Json.jString("e")))
+                .remove("/a/c");
+        Json.JValue patched = patch.apply(json);
+        Json.JObject expected = Json.jObject(
+                Json.tuple("a", Json.jObject(Json.tuple("d", Json.jArray(Json.jNumber(2), Json.jString("e"))))),
+                Json.tuple("untouched", Json.jArray(Json.jString("x"))),
+                Json.tuple("b", Json.jNumber(1))
+        );
+        assertEquals(expected, patched);
+        assertSame(json.get("untouched").get(), patched.asJsonObjectOrEmpty().get("untouched").get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failingTestFails() {
+        new JsonPatch().test("/a/b", Json.jNumber(2)).apply(json);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void removeMissingFails() {
+        new JsonPatch().remove("/a/missing").apply(json);
+    }
+
+    @Test
+    public void diffRoundTrips() {
+        Json.JObject to = Json.jObject(
+                Json.tuple("renamed", Json.jObject(Json.tuple("b", Json.jNumber(1)))),
+                Json.tuple("untouched", Json.jArray(Json.jString("w"), Json.jString("x"), Json.jString("y"))),
+                Json.tuple("new", Json.jBoolean(true))
+        );
+        JsonPatch patch = JsonPatch.diff(json, to);
+        assertEquals(to, patch.apply(json));
+        assertEquals(4, patch.toJson().size());
+        assertEquals("move", patch.toJson().get(2).get().asJsonObjectOrEmpty().getAsStringOrEmpty("op"));
+        assertEquals(0, JsonPatch.diff(json, json).toJson().size());
+    }
+
+    @Test
+    public void diffArrays() {
+        Json.JArray from = Json.jArray(Json.jNumber(1), Json.jNumber(2), Json.jNumber(3), Json.jNumber(4), Json.jNumber(5));
+        Json.JArray to = Json.jArray(Json.jNumber(0), Json.jNumber(1), Json.jNumber(3), Json.jNumber(6), Json.jNumber(5), Json.jNumber(7));
+        JsonPatch patch = JsonPatch.diff(from, to);
+        assertEquals(to, patch.apply(from));
+        assertEquals(4, patch.toJson().size());
+    }
+
+    @Test
+    public void compiledPatchAppliesToMany() {
+        CompiledJsonPatch patch = new JsonPatch().replace("/a/b", Json.jNumber(2)).compile();
+        List<Json.JValue> patched = patch.applyAll(Stream.generate(() -> (Json.JValue) json).limit(100)).collect(Collectors.toList());
+        assertEquals(100, patched.size());
+        for (Json.JValue value : patched) {
+            assertEquals(json.put("a", Json.jObject("b", 2)), value);
+        }
+    }
+
+    @Test
+    public void patchIsCompiledOnce() {
+        JsonPatch patch = new JsonPatch().add("/a/-", Json.jNumber(2));
+        assertSame(patch.compile(), patch.compile());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void compileRejectsMoveIntoChild() {
+        new JsonPatch().move("/a", "/a/b/c").compile();
+    }
+
+    @Test
+    public void squashKeepsNetEffect() {
+        JsonPatch first = new JsonPatch()
+                .add("/a/c", Json.jEmptyObject())
+                .replace("/a/b", Json.jNumber(3))
+                .add("/tmp", Json.jNumber(0));
+        JsonPatch second = new JsonPatch()
+                .replace("/a/b", Json.jNumber(4))
+                .remove("/tmp")
+                .add("/a/c/d", Json.jNumber(5))
+                .add("/a/c", Json.jObject("e", 6))
+                .add("/untouched/-", Json.jString("y"))
+                .replace("/a/b", Json.jNumber(7));
+        JsonPatch squashed = JsonPatch.squash(javaslang.collection.List.of(first, second));
+        assertEquals(first.concat(second).apply(json), squashed.apply(json));
+        assertEquals(
+                new JsonPatch()
+                        .add("/a/c", Json.jObject("e", 6))
+                        .replace("/a/b", Json.jNumber(4))
+                        .add("/tmp", Json.jNumber(0))
+                        .remove("/tmp")
+                        .add("/untouched/-", Json.jString("y"))
+                        .replace("/a/b", Json.jNumber(7))
+                        .toJson(),
+                squashed.toJson()
+        );
+    }
+}
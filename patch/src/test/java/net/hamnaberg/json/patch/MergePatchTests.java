@@ -1,5 +1,6 @@
 package net.hamnaberg.json.patch;
 
+import javaslang.collection.List;
 import net.hamnaberg.json.Json;
 import net.hamnaberg.json.jackson.JacksonStreamingParser;
 import org.junit.Test;
@@ -46,4 +47,10 @@ public class MergePatchTests {
         Json.JValue patched = MergePatch.patch(document, this.patch);
         assertEquals("Patched did not match result", result, patched);
     }
+
+    @Test
+    public void patchAll() {
+        List<Json.JValue> patched = MergePatch.patchAll(List.of(document, document), this.patch);
+        assertEquals(List.of(result, result), patched);
+    }
 }
@@ -0,0 +1,50 @@
+package net.hamnaberg.json.patch;
+
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Squashes the patch of every successful conformance test, and applies it.
+ */
+@RunWith(Parameterized.class)
+public class PatchSquasherTest {
+    private final String name;
+    private final Json.JValue document;
+    private final JsonPatch patch;
+    private final Json.JValue expected;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() throws Exception {
+        List<Object[]> data = new ArrayList<>();
+        data.addAll(RFC9602Test.buildTestSpec(PatchSquasherTest.class.getResourceAsStream("/spec_tests.json")));
+        data.addAll(RFC9602Test.buildTestSpec(PatchSquasherTest.class.getResourceAsStream("/tests.json")));
+        data.removeIf(test -> ((Option<?>) test[3]).isEmpty());
+        return data;
+    }
+
+    public PatchSquasherTest(String name, Json.JValue document, Json.JArray patch, Option<Json.JValue> expected) {
+        this.name = name;
+        this.document = document;
+        this.patch = JsonPatch.fromArray(patch);
+        this.expected = expected.get();
+    }
+
+    @Test
+    public void squashedPatchHasTheSameEffect() {
+        assertEquals(expected, patch.squash().apply(document));
+    }
+
+    @Test
+    public void squashedPatchIsNoLonger() {
+        assertTrue(patch.squash().toJson().value.size() <= patch.toJson().value.size());
+    }
+}
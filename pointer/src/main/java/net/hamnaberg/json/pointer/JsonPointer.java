@@ -9,26 +9,101 @@ import java.util.function.Function;
 
 public final class JsonPointer {
     private final List<Ref> path;
+    private final Step[] steps;
+    private String string;
 
+    private static final JsonPointer EMPTY = new JsonPointer(List.empty());
+
+    /**
+     * Compiled pointers are immutable, and cached in {@link JsonPointerCache#shared()}.
+     */
     public static JsonPointer compile(String pattern) {
         if (pattern == null || pattern.trim().isEmpty()) {
-            return new JsonPointer(List.empty());
+            return EMPTY;
         }
+        return JsonPointerCache.shared().compile(pattern);
+    }
+
+    static JsonPointer parse(String pattern) {
         return new JsonPointer(new JsonPointerParser().parse(pattern));
     }
 
     private JsonPointer(List<Ref> path) {
         this.path = path;
+        this.steps = new Step[path.size()];
+        int i = 0;
+        for (Ref ref : path) {
+            steps[i++] = ref.fold(Step::index, Step::property, () -> Step.END_OF_ARRAY);
+        }
     }
 
-    @Override
-    public String toString() {
-        if (path.isEmpty()) return "";
+    /**
+     * A pointer to the member with the given name, in the object this pointer refers to.
+     */
+    public JsonPointer append(String name) {
+        return new JsonPointer(path.append(new PropertyRef(name)));
+    }
+
+    /**
+     * A pointer to the element at the given index, in the array this pointer refers to.
+     */
+    public JsonPointer append(int index) {
+        return new JsonPointer(path.append(new ArrayRef(index)));
+    }
+
+    /**
+     * The unescaped reference tokens of this pointer, with {@code -} for the end of an array.
+     */
+    public List<String> tokens() {
         return path.map(ref -> ref.fold(
                 r -> String.valueOf(r.index),
-                r -> escape(r.name),
+                r -> r.name,
                 () -> "-"
-        )).mkString("/", "/", "");
+        ));
+    }
+
+    /**
+     * The array index each reference token selects, or -1 for tokens that can only name object members, like {@code -}.
+     */
+    public int[] indexes() {
+        int[] indexes = new int[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            indexes[i] = steps[i].index;
+        }
+        return indexes;
+    }
+
+    Step[] steps() {
+        return steps;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        JsonPointer that = (JsonPointer) o;
+
+        return toString().equals(that.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String s = string;
+        if (s == null) {
+            s = path.isEmpty() ? "" : path.map(ref -> ref.fold(
+                    r -> String.valueOf(r.index),
+                    r -> escape(r.name),
+                    () -> "-"
+            )).mkString("/", "/", "");
+            string = s;
+        }
+        return s;
     }
 
     private String escape(String str) {
@@ -36,36 +111,22 @@ public final class JsonPointer {
     }
 
     public Option<Json.JValue> select(Json.JValue value) {
-        if (path.isEmpty()) {
-            return Option.of(value);
-        }
+        return Option.of(selectOrElse(value, null));
+    }
 
-        final Iterator<Ref> iterator = path.iterator();
+    /**
+     * Selects the value at this pointer, or returns {@code defaultValue} if there is none.
+     * Apart from object lookups, this allocates nothing.
+     */
+    public Json.JValue selectOrElse(Json.JValue value, Json.JValue defaultValue) {
         Json.JValue current = value;
-        while (iterator.hasNext()) {
-            Ref ref = iterator.next();
-            final Json.JValue c = current;
-            current = ref.fold(
-                    arrayRef -> foldToJson(
-                            c,
-                            obj -> obj.get(String.valueOf(arrayRef.index)).getOrElse(obj),
-                            arr -> arr.get(arrayRef.index).getOrElse(arr)
-                    ),
-                    propertyRef -> foldToJson(
-                            c,
-                            obj -> obj.get(String.valueOf(propertyRef.name)).getOrElse(obj),
-                            Json.JValue::asJValue
-                    ),
-                    () -> {
-                        throw new IllegalStateException("List index is out-of-bounds");
-                    }
-            );
-            if (!iterator.hasNext() && current != value) {
-                return Option.of(current);
+        for (Step step : steps) {
+            current = step.select(current);
+            if (current == null) {
+                return defaultValue;
             }
         }
-
-        return Option.none();
+        return current;
     }
 
     public Json.JValue add(Json.JValue json, Json.JValue value) {
@@ -96,15 +157,55 @@ public final class JsonPointer {
     }
 
     public Json.JValue copy(Json.JValue json, JsonPointer from) {
-        //TODO: Optimize? we have 3 traversals of the graph
-        Option<Json.JValue> selected = from.select(json);
-        return selected.map(v -> add(json, v)).getOrElse(json);
+        return transfer(json, from, false);
     }
 
     public Json.JValue move(Json.JValue json, JsonPointer from) {
-        //TODO: Optimize? we have 3 traversals of the graph
-        Option<Json.JValue> selected = from.select(json);
-        return selected.map(v -> add(from.remove(json), v)).getOrElse(json);
+        int prefix = commonPrefix(from);
+        if (prefix == path.size() && prefix == from.path.size()) {
+            return json;
+        }
+        if (prefix == from.path.size()) {
+            throw new IllegalStateException(String.format("Cannot move %s into one of its children %s", from, this));
+        }
+        return transfer(json, from, true);
+    }
+
+    /**
+     * Moves or copies within the closest common ancestor of both pointers. The path down to it is only walked once,
+     * and rebuilt once, instead of once for each of the select, remove and add.
+     */
+    private Json.JValue transfer(Json.JValue json, JsonPointer from, boolean remove) {
+        int prefix = commonPrefix(from);
+        Json.JValue[] spine = new Json.JValue[prefix + 1];
+        spine[0] = json;
+        for (int i = 0; i < prefix; i++) {
+            spine[i + 1] = steps[i].select(spine[i]);
+            if (spine[i + 1] == null) {
+                return json;
+            }
+        }
+        JsonPointer relativeFrom = new JsonPointer(from.path.drop(prefix));
+        JsonPointer relativePath = new JsonPointer(path.drop(prefix));
+        Json.JValue ancestor = spine[prefix];
+        Json.JValue selected = relativeFrom.selectOrElse(ancestor, null);
+        if (selected == null) {
+            return json;
+        }
+        Json.JValue updated = relativePath.add(remove ? relativeFrom.remove(ancestor) : ancestor, selected);
+        for (int i = prefix - 1; i >= 0; i--) {
+            updated = steps[i].set(spine[i], updated);
+        }
+        return updated;
+    }
+
+    private int commonPrefix(JsonPointer other) {
+        int length = Math.min(steps.length, other.steps.length);
+        int i = 0;
+        while (i < length && steps[i].name.equals(other.steps[i].name)) {
+            i++;
+        }
+        return i;
     }
 
     public boolean test(Json.JValue json, Json.JValue value) {
@@ -221,4 +322,49 @@ public final class JsonPointer {
             return object.put(name, addImpl(path, path.next(), value, valueToInsert));
         }
     }
+
+    /**
+     * A flattened {@link Ref}, with array indexes and the end of array also kept as property names,
+     * since they may select object members.
+     */
+    static final class Step {
+        static final Step END_OF_ARRAY = new Step("-", -1);
+
+        final String name;
+        final int index;
+
+        private Step(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        static Step index(ArrayRef ref) {
+            return new Step(String.valueOf(ref.index), ref.index);
+        }
+
+        static Step property(PropertyRef ref) {
+            return new Step(ref.name, -1);
+        }
+
+        /**
+         * Replaces the child this step selects, which must exist.
+         */
+        Json.JValue set(Json.JValue value, Json.JValue child) {
+            if (value instanceof Json.JObject) {
+                return ((Json.JObject) value).put(name, child);
+            }
+            return ((Json.JArray) value).replace(index, child);
+        }
+
+        Json.JValue select(Json.JValue value) {
+            if (value instanceof Json.JObject) {
+                return ((Json.JObject) value).value.get(name).getOrElse((Json.JValue) null);
+            }
+            if (value instanceof Json.JArray) {
+                List<Json.JValue> list = ((Json.JArray) value).value;
+                return index >= 0 && index < list.size() ? list.get(index) : null;
+            }
+            return null;
+        }
+    }
 }
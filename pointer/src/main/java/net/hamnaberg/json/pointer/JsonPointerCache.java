@@ -0,0 +1,64 @@
+package net.hamnaberg.json.pointer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of compiled pointers, used by {@link JsonPointer#compile(String)}.
+ * <p>
+ * Lookups are lock free. When the cache is full it is cleared, so it never holds more than its configured size,
+ * and a working set that fits is quickly rebuilt.
+ */
+public final class JsonPointerCache {
+    private static final JsonPointerCache SHARED = new JsonPointerCache(4096);
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, JsonPointer> pointers = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JsonPointerCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.format("maxSize must be positive, was %s", maxSize));
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * The cache used by {@link JsonPointer#compile(String)}, holding at most 4096 pointers.
+     */
+    public static JsonPointerCache shared() {
+        return SHARED;
+    }
+
+    public JsonPointer compile(String pattern) {
+        JsonPointer pointer = pointers.get(pattern);
+        if (pointer != null) {
+            hits.increment();
+            return pointer;
+        }
+        misses.increment();
+        pointer = JsonPointer.parse(pattern);
+        if (pointers.size() >= maxSize) {
+            pointers.clear();
+        }
+        JsonPointer existing = pointers.putIfAbsent(pattern, pointer);
+        return existing != null ? existing : pointer;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return pointers.size();
+    }
+
+    public void clear() {
+        pointers.clear();
+    }
+}
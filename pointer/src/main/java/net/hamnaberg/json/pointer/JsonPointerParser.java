@@ -7,31 +7,52 @@ import java.util.ArrayList;
 
 class JsonPointerParser {
     List<Ref> parse(String s) {
-        List<String> list = clean((s.startsWith("/") ? s.substring(1) : s).split("/"));
-        return parse(list);
+        ArrayList<Ref> path = new ArrayList<>();
+        int start = s.startsWith("/") ? 1 : 0;
+        int end;
+        while ((end = s.indexOf('/', start)) != -1) {
+            path.add(ref(unescape(s.substring(start, end))));
+            start = end + 1;
+        }
+        path.add(ref(unescape(s.substring(start))));
+        return List.ofAll(path);
     }
 
-    List<Ref> parse(List<String> parts) {
-        ArrayList<Ref> path = new ArrayList<>(parts.size());
-        for (String p : parts) {
-            if (p.equals("-")) {
-                path.add(EndOfArray.INSTANCE);
-            }
-            else if (ArrayRef.pattern.matcher(p).matches()) {
-                path.add(new ArrayRef(Integer.parseInt(p)));
-            }
-            else {
-                path.add(new PropertyRef(p));
-            }
+    private Ref ref(String p) {
+        if (p.equals("-")) {
+            return EndOfArray.INSTANCE;
+        }
+        else if (isIndex(p)) {
+            return new ArrayRef(Integer.parseInt(p));
+        }
+        else {
+            return new PropertyRef(p);
         }
-        return List.ofAll(path);
     }
 
-    private List<String> clean(String[] split) {
-        return List.of(split).map(this::unescape);
+    /**
+     * Matches {@code 0|[1-9][0-9]*}, limited to indexes that fit in an int.
+     */
+    private boolean isIndex(String p) {
+        int length = p.length();
+        if (length == 0 || length > 10 || (length > 1 && p.charAt(0) == '0')) {
+            return false;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = p.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value <= Integer.MAX_VALUE;
     }
 
     private String unescape(String str) {
+        if (str.indexOf('~') == -1) {
+            return str;
+        }
         return str.replace("~1", "/").replace("~0", "~");
     }
 }
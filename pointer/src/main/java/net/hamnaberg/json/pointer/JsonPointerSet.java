@@ -0,0 +1,160 @@
+package net.hamnaberg.json.pointer;
+
+import javaslang.Tuple2;
+import javaslang.collection.LinkedHashMap;
+import javaslang.collection.List;
+import javaslang.collection.Map;
+import javaslang.control.Option;
+import net.hamnaberg.json.Json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * A set of pointers kept as a trie, so that selecting all of them from a document
+ * visits each shared prefix once, instead of once per pointer.
+ * <p>
+ * The trie can also be walked directly, from {@link #root()}, which lets streaming parsers skip
+ * every subtree no pointer reaches into.
+ */
+public final class JsonPointerSet {
+    private final Node root = new Node();
+    private final int size;
+
+    private JsonPointerSet(Iterable<JsonPointer> pointers) {
+        int count = 0;
+        for (JsonPointer pointer : pointers) {
+            Node node = root;
+            for (JsonPointer.Step step : pointer.steps()) {
+                node = node.add(step);
+            }
+            if (!node.pointers.contains(pointer)) {
+                node.pointers.add(pointer);
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    public static JsonPointerSet of(JsonPointer... pointers) {
+        return of(List.of(pointers));
+    }
+
+    public static JsonPointerSet of(Iterable<JsonPointer> pointers) {
+        return new JsonPointerSet(pointers);
+    }
+
+    public static JsonPointerSet compile(String... patterns) {
+        return of(List.of(patterns).map(JsonPointer::compile));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Node root() {
+        return root;
+    }
+
+    /**
+     * Selects every pointer in the set in a single traversal.
+     * Pointers that select nothing are left out of the result.
+     */
+    public Map<JsonPointer, Json.JValue> select(Json.JValue value) {
+        return root.select(value);
+    }
+
+    private static void select(Node node, Json.JValue value, java.util.Map<JsonPointer, Json.JValue> found) {
+        for (JsonPointer pointer : node.pointers) {
+            found.put(pointer, value);
+        }
+        if (value instanceof Json.JObject && node.members != null) {
+            Json.JObject object = (Json.JObject) value;
+            if (node.members.size() <= object.size()) {
+                for (java.util.Map.Entry<String, Node> entry : node.members.entrySet()) {
+                    Option<Json.JValue> member = object.value.get(entry.getKey());
+                    if (member.isDefined()) {
+                        select(entry.getValue(), member.get(), found);
+                    }
+                }
+            } else {
+                for (Tuple2<String, Json.JValue> member : object) {
+                    Node child = node.members.get(member._1);
+                    if (child != null) {
+                        select(child, member._2, found);
+                    }
+                }
+            }
+        } else if (value instanceof Json.JArray && node.elements != null) {
+            Iterator<Json.JValue> iterator = ((Json.JArray) value).iterator();
+            for (int index = 0; index <= node.maxIndex && iterator.hasNext(); index++) {
+                Json.JValue element = iterator.next();
+                Node child = node.elements.get(index);
+                if (child != null) {
+                    select(child, element, found);
+                }
+            }
+        }
+    }
+
+    /**
+     * A position in the trie, reached by following the same references as the pointers that share it.
+     */
+    public static final class Node {
+        private final ArrayList<JsonPointer> pointers = new ArrayList<>(1);
+        private HashMap<String, Node> members;
+        private HashMap<Integer, Node> elements;
+        private int maxIndex = -1;
+
+        private Node() {
+        }
+
+        private Node add(JsonPointer.Step step) {
+            if (members == null) {
+                members = new HashMap<>();
+            }
+            Node child = members.computeIfAbsent(step.name, k -> new Node());
+            if (step.index >= 0) {
+                if (elements == null) {
+                    elements = new HashMap<>();
+                }
+                elements.put(step.index, child);
+                maxIndex = Math.max(maxIndex, step.index);
+            }
+            return child;
+        }
+
+        /**
+         * The pointers ending at this node, which select the value here.
+         */
+        public List<JsonPointer> pointers() {
+            return List.ofAll(pointers);
+        }
+
+        public boolean isMatch() {
+            return !pointers.isEmpty();
+        }
+
+        public boolean isLeaf() {
+            return members == null;
+        }
+
+        /**
+         * Selects the pointers at and below this node, from the value this node refers to.
+         */
+        public Map<JsonPointer, Json.JValue> select(Json.JValue value) {
+            java.util.LinkedHashMap<JsonPointer, Json.JValue> found = new java.util.LinkedHashMap<>();
+            JsonPointerSet.select(this, value, found);
+            return LinkedHashMap.ofAll(found);
+        }
+
+        public Option<Node> member(String name) {
+            return members != null ? Option.of(members.get(name)) : Option.none();
+        }
+
+        public Option<Node> element(int index) {
+            return elements != null ? Option.of(elements.get(index)) : Option.none();
+        }
+    }
+}
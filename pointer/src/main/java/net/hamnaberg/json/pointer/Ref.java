@@ -2,7 +2,6 @@ package net.hamnaberg.json.pointer;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 interface Ref {
 
@@ -10,8 +9,6 @@ interface Ref {
 }
 
 class ArrayRef implements Ref {
-    static Pattern pattern = Pattern.compile("0|[1-9][0-9]*");
-
     public final int index;
 
     public ArrayRef(int index) {
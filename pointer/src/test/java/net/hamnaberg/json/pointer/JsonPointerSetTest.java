@@ -0,0 +1,31 @@
+package net.hamnaberg.json.pointer;
+
+import javaslang.collection.Map;
+import net.hamnaberg.json.Json;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class JsonPointerSetTest {
+    private final Json.JObject json = Json.jObject(
+            Json.tuple("a", Json.jObject(
+                    Json.tuple("b", Json.jObject(Json.tuple("c", Json.jNumber(1)), Json.tuple("d", Json.jNumber(2)))),
+                    Json.tuple("x", Json.jArray(Json.jString("first"), Json.jString("second"))),
+                    Json.tuple("0", Json.jBoolean(true))
+            ))
+    );
+
+    @Test
+    public void selectsLikeSinglePointers() throws Exception {
+        JsonPointerSet set = JsonPointerSet.compile("/a/b/c", "/a/b/d", "/a/x/1", "/a/0", "/a/b", "/a/missing", "/a/x/-", "");
+        Map<JsonPointer, Json.JValue> selected = set.select(json);
+        assertEquals(6, selected.size());
+        for (JsonPointer pointer : set.root().member("a").get().pointers().appendAll(selected.keySet())) {
+            assertEquals(pointer.select(json), selected.get(pointer));
+        }
+        assertEquals(Json.jString("second"), selected.get(JsonPointer.compile("/a/x/1")).get());
+        assertEquals(Json.jBoolean(true), selected.get(JsonPointer.compile("/a/0")).get());
+        assertFalse(selected.containsKey(JsonPointer.compile("/a/missing")));
+    }
+}
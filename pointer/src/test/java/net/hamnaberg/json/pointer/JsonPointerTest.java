@@ -5,8 +5,10 @@ import net.hamnaberg.json.Json;
 import org.junit.Test;
 
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class JsonPointerTest {
     private final Json.JObject json =
@@ -23,6 +25,29 @@ public class JsonPointerTest {
         assertEquals(Option.of(Json.jString("feed")), value);
     }
 
+    @Test
+    public void missingPathSelectsNothing() throws Exception {
+        assertEquals(Option.none(), JsonPointer.compile("/collection/missing").select(json));
+        assertEquals(Option.none(), JsonPointer.compile("/collection/links/1").select(json));
+        assertEquals(Option.none(), JsonPointer.compile("/collection/links/-").select(json));
+        assertEquals(Json.jNull(), JsonPointer.compile("/collection/links/0/href").selectOrElse(json, Json.jNull()));
+        assertEquals(Json.jString("feed"), JsonPointer.compile("/collection/links/0/rel").selectOrElse(json, Json.jNull()));
+    }
+
+    @Test
+    public void endOfArraySelectsObjectMember() throws Exception {
+        Json.JObject object = Json.jObject("-", Json.jNumber(1));
+        assertEquals(Option.of(Json.jNumber(1)), JsonPointer.compile("/-").select(object));
+        assertEquals(Option.of(Json.jNumber(1)), JsonPointerSet.compile("/-").select(object).get(JsonPointer.compile("/-")));
+        assertEquals(Option.none(), JsonPointer.compile("/-").select(Json.jArray(Json.jNumber(1))));
+    }
+
+    @Test
+    public void indexesUpToIntMaxValue() throws Exception {
+        assertArrayEquals(new int[]{1000000000, Integer.MAX_VALUE, -1, -1}, JsonPointer.compile("/1000000000/2147483647/2147483648/01").indexes());
+        assertEquals("/2147483648", JsonPointer.compile("/2147483648").toString());
+    }
+
     @Test
     public void validateToString() throws Exception {
         String pattern = "/collection/links/0/rel";
@@ -32,6 +57,20 @@ public class JsonPointerTest {
         assertEquals("", JsonPointer.compile("").toString());
     }
 
+    @Test
+    public void compileIsCached() throws Exception {
+        JsonPointerCache cache = new JsonPointerCache(2);
+        JsonPointer p = cache.compile("/a/0");
+        assertSame(p, cache.compile("/a/0"));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        cache.compile("/b");
+        cache.compile("/c");
+        assertEquals(1, cache.size());
+        assertEquals("/a/", JsonPointer.compile("/a/").toString());
+        assertEquals("/a/2147483648", JsonPointer.compile("/a/2147483648").toString());
+    }
+
     @Test
     public void validateEscapedValuesToString() throws Exception {
         assertEquals("/a~1b", JsonPointer.compile("/a~1b").toString());
@@ -87,4 +126,35 @@ public class JsonPointerTest {
         assertNotSame(json, value);
         assertEquals(modified, value);
     }
+
+    @Test
+    public void moveWithinSharedParent() throws Exception {
+        Json.JValue value = JsonPointer.compile("/collection/links/0/href").move(json, JsonPointer.compile("/collection/links/0/rel"));
+        Json.JObject modified =
+                Json.jObject( "collection",
+                        Json.jObject("links", Json.jArray(
+                                Json.jObject("href", Json.jString("feed"))
+                        ))
+                );
+        assertEquals(modified, value);
+    }
+
+    @Test
+    public void copyAcrossParents() throws Exception {
+        Json.JValue value = JsonPointer.compile("/collection/rel").copy(json, JsonPointer.compile("/collection/links/0/rel"));
+        Json.JObject modified =
+                Json.jObject( "collection",
+                        Json.jObject(
+                                Json.tuple("links", Json.jArray(Json.jObject("rel", Json.jString("feed")))),
+                                Json.tuple("rel", Json.jString("feed"))
+                        )
+                );
+        assertEquals(modified, value);
+        assertSame(json, JsonPointer.compile("/collection/rel").copy(json, JsonPointer.compile("/collection/missing/rel")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void moveIntoChildFails() throws Exception {
+        JsonPointer.compile("/collection/links/0").move(json, JsonPointer.compile("/collection"));
+    }
 }
@@ -0,0 +1,52 @@
+package net.hamnaberg.json.store;
+
+import net.hamnaberg.json.io.JsonParser;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * An embedded store of {@link VersionedDocument}s on local disk, with one directory per document.
+ * <p>
+ * Documents are opened on first use and kept open until the store is closed.
+ * A store directory must only be opened by one store at a time.
+ */
+public final class DocumentStore implements AutoCloseable {
+    private static final Pattern ID = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    private final Path directory;
+    private final JsonParser parser;
+    private final SnapshotPolicy policy;
+    private final ConcurrentHashMap<String, VersionedDocument> documents = new ConcurrentHashMap<>();
+
+    private DocumentStore(Path directory, JsonParser parser, SnapshotPolicy policy) {
+        this.directory = directory;
+        this.parser = parser;
+        this.policy = policy;
+    }
+
+    /**
+     * Opens a store snapshotting every 100 patches or 1 MB of patches, whichever comes first.
+     */
+    public static DocumentStore open(Path directory, JsonParser parser) {
+        return open(directory, parser, SnapshotPolicy.every(100, 1024 * 1024));
+    }
+
+    public static DocumentStore open(Path directory, JsonParser parser, SnapshotPolicy policy) {
+        return new DocumentStore(directory, parser, policy);
+    }
+
+    public VersionedDocument document(String id) {
+        if (!ID.matcher(id).matches() || id.startsWith(".")) {
+            throw new IllegalArgumentException(String.format("'%s' is not a valid document id", id));
+        }
+        return documents.computeIfAbsent(id, i -> new VersionedDocument(directory.resolve(i), parser, policy));
+    }
+
+    @Override
+    public void close() {
+        documents.values().forEach(VersionedDocument::close);
+        documents.clear();
+    }
+}
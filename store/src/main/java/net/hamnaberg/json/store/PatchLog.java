@@ -0,0 +1,156 @@
+package net.hamnaberg.json.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of records, memory mapped from a single file.
+ * <p>
+ * Each record is a four byte length, a CRC32 of the rest of the record, a type byte and the payload.
+ * The file is zero filled past the last record, so a record whose length never reached the disk reads as the end of the log.
+ * The mapped pages may be written back in any order, so only records appended before the last {@link #force()}
+ * are guaranteed to survive a crash. A record whose length reached the disk without its payload fails the checksum,
+ * and the log is cut off before it when opened.
+ * The mapping grows by doubling.
+ */
+final class PatchLog implements AutoCloseable {
+    private static final int INITIAL_SIZE = 64 * 1024;
+    private static final int HEADER = 8;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int[] offsets = new int[16];
+    private int size;
+    private int end;
+
+    PatchLog(Path file) {
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            map(Math.max(INITIAL_SIZE, (int) channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int position = 0;
+        while (position + HEADER <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER + length > buffer.capacity()) {
+                break;
+            }
+            if (buffer.getInt(position + 4) != checksum(position, length)) {
+                truncate(position);
+                break;
+            }
+            index(position);
+            position += HEADER + length;
+        }
+        this.end = position;
+    }
+
+    /**
+     * @return the number of records in the log
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes used by records
+     */
+    long bytes() {
+        return end;
+    }
+
+    void append(byte type, byte[] payload) {
+        int length = 1 + payload.length;
+        ensureCapacity(end + HEADER + length);
+        ByteBuffer view = buffer.duplicate();
+        view.position(end + HEADER);
+        view.put(type).put(payload);
+        buffer.putInt(end + 4, checksum(end, length));
+        buffer.putInt(end, length);
+        index(end);
+        end += HEADER + length;
+    }
+
+    byte type(int record) {
+        return buffer.get(offsets[record] + HEADER);
+    }
+
+    byte[] payload(int record) {
+        int offset = offsets[record];
+        byte[] payload = new byte[buffer.getInt(offset) - 1];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + HEADER + 1);
+        view.get(payload);
+        return payload;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int checksum(int offset, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + HEADER).limit(offset + HEADER + length);
+        CRC32 crc = new CRC32();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Zero fills the log from the offset, so records written after a lost one can never be read as part of the log.
+     */
+    private void truncate(int offset) {
+        byte[] zeros = new byte[4096];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        while (view.hasRemaining()) {
+            view.put(zeros, 0, Math.min(zeros.length, view.remaining()));
+        }
+    }
+
+    private void index(int offset) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+        offsets[size++] = offset;
+    }
+
+    private void ensureCapacity(long needed) {
+        if (needed > buffer.capacity()) {
+            long capacity = buffer.capacity();
+            while (capacity < needed) {
+                capacity *= 2;
+            }
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Log is full");
+            }
+            try {
+                map((int) capacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void map(int capacity) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
@@ -0,0 +1,36 @@
+package net.hamnaberg.json.store;
+
+/**
+ * Decides when a document is written out in full, so that reads replay at most a bounded tail of the log.
+ */
+public final class SnapshotPolicy {
+    private final int operations;
+    private final long bytes;
+
+    private SnapshotPolicy(int operations, long bytes) {
+        this.operations = operations;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Snapshots once either limit has been reached since the last snapshot.
+     */
+    public static SnapshotPolicy every(int operations, long bytes) {
+        if (operations < 1 || bytes < 1) {
+            throw new IllegalArgumentException(String.format("Limits must be positive, was %s operations and %s bytes", operations, bytes));
+        }
+        return new SnapshotPolicy(operations, bytes);
+    }
+
+    public static SnapshotPolicy everyOperations(int operations) {
+        return every(operations, Long.MAX_VALUE);
+    }
+
+    public static SnapshotPolicy never() {
+        return new SnapshotPolicy(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public boolean shouldSnapshot(int operationsSince, long bytesSince) {
+        return operationsSince >= operations || bytesSince >= bytes;
+    }
+}
@@ -0,0 +1,186 @@
+package net.hamnaberg.json.store;
+
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.io.JsonParser;
+import net.hamnaberg.json.io.JsonSerializer;
+import net.hamnaberg.json.patch.JsonPatch;
+import net.hamnaberg.json.patch.MergePatch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeSet;
+
+/**
+ * A document kept as a log of patches, starting from an empty object at version 0.
+ * Each applied patch adds one version.
+ * <p>
+ * The document is written out in full whenever the {@link SnapshotPolicy} says so. Reading a version starts from
+ * the closest snapshot at or before it, and only replays the patches after that.
+ * The latest version is also kept in memory.
+ * <p>
+ * Instances are thread safe.
+ */
+public final class VersionedDocument implements AutoCloseable {
+    private static final byte JSON_PATCH = 1;
+    private static final byte MERGE_PATCH = 2;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private final Path directory;
+    private final JsonParser parser;
+    private final SnapshotPolicy policy;
+    private final PatchLog log;
+    private final TreeSet<Integer> snapshots = new TreeSet<>();
+    private Json.JValue head;
+    private long snapshotBytes;
+
+    VersionedDocument(Path directory, JsonParser parser, SnapshotPolicy policy) {
+        this.directory = directory;
+        this.parser = parser;
+        this.policy = policy;
+        try {
+            Files.createDirectories(directory);
+            this.log = new PatchLog(directory.resolve("log"));
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SNAPSHOT_SUFFIX)) {
+                for (Path file : files) {
+                    Integer version = snapshotVersion(file);
+                    if (version == null) {
+                        continue;
+                    }
+                    if (version > log.size()) {
+                        // the log lost records written before this snapshot, so it is ahead of the log
+                        Files.delete(file);
+                    }
+                    else {
+                        snapshots.add(version);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.head = replay(log.size());
+        this.snapshotBytes = log.bytes();
+    }
+
+    public synchronized int version() {
+        return log.size();
+    }
+
+    public synchronized Json.JValue read() {
+        return head;
+    }
+
+    public synchronized Json.JValue read(int version) {
+        if (version < 0 || version > log.size()) {
+            throw new IllegalArgumentException(String.format("No version %s, latest is %s", version, log.size()));
+        }
+        return version == log.size() ? head : replay(version);
+    }
+
+    /**
+     * Applies the patch to the latest version. Nothing is written if the patch does not apply.
+     *
+     * @return the new version
+     */
+    public synchronized int apply(JsonPatch patch) {
+        Json.JValue patched = patch.apply(head);
+        return append(JSON_PATCH, patch.toJson(), patched);
+    }
+
+    /**
+     * Applies the merge patch to the latest version.
+     *
+     * @return the new version
+     */
+    public synchronized int merge(Json.JValue mergePatch) {
+        Json.JValue patched = MergePatch.patch(head, mergePatch);
+        return append(MERGE_PATCH, mergePatch, patched);
+    }
+
+    /**
+     * Forces appended patches to disk.
+     */
+    public synchronized void flush() {
+        log.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        log.close();
+    }
+
+    private int append(byte type, Json.JValue patch, Json.JValue patched) {
+        log.append(type, JsonSerializer.writeToString(patch).getBytes(StandardCharsets.UTF_8));
+        head = patched;
+        int version = log.size();
+        int since = snapshots.isEmpty() ? version : version - snapshots.last();
+        if (policy.shouldSnapshot(since, log.bytes() - snapshotBytes)) {
+            snapshot(version, patched);
+        }
+        return version;
+    }
+
+    private static Integer snapshotVersion(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.valueOf(name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Forces the log first, so a snapshot is never durable before the records it covers.
+     */
+    private void snapshot(int version, Json.JValue value) {
+        Path file = directory.resolve(version + SNAPSHOT_SUFFIX);
+        Path tmp = directory.resolve(version + SNAPSHOT_SUFFIX + ".tmp");
+        log.force();
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                JsonSerializer.write(value, out);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        snapshots.add(version);
+        snapshotBytes = log.bytes();
+    }
+
+    private Json.JValue replay(int version) {
+        Integer start = snapshots.floor(version);
+        Json.JValue value = start != null ? readSnapshot(start) : Json.jEmptyObject();
+        for (int record = start != null ? start : 0; record < version; record++) {
+            Json.JValue patch = parser.parse(new String(log.payload(record), StandardCharsets.UTF_8));
+            if (log.type(record) == JSON_PATCH) {
+                value = JsonPatch.fromArray(patch.asJsonArrayOrEmpty()).apply(value);
+            }
+            else {
+                value = MergePatch.patch(value, patch);
+            }
+        }
+        return value;
+    }
+
+    private Json.JValue readSnapshot(int version) {
+        try (InputStream in = Files.newInputStream(directory.resolve(version + SNAPSHOT_SUFFIX))) {
+            return parser.parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package net.hamnaberg.json.store;
+
+import net.hamnaberg.json.Json;
+import net.hamnaberg.json.jackson.JacksonStreamingParser;
+import net.hamnaberg.json.patch.JsonPatch;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class DocumentStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsEveryVersionAfterReopening() throws Exception {
+        Path root = folder.getRoot().toPath();
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.everyOperations(3))) {
+            VersionedDocument document = store.document("doc");
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i + 1, document.apply(new JsonPatch().add("/n" + i, Json.jNumber(i))));
+            }
+            assertEquals(11, document.merge(Json.jObject("n0", Json.jNull())));
+        }
+        assertTrue(Files.exists(root.resolve("doc").resolve("9.snapshot")));
+
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.everyOperations(3))) {
+            VersionedDocument document = store.document("doc");
+            assertEquals(11, document.version());
+            assertEquals(Json.jEmptyObject(), document.read(0));
+            assertEquals(Json.jObject("n0", 0), document.read(1));
+            assertEquals(Json.jNumber(4), document.read(5).asJsonObjectOrEmpty().get("n4").get());
+            assertEquals(10, document.read(10).asJsonObjectOrEmpty().size());
+            assertFalse(document.read().asJsonObjectOrEmpty().containsKey("n0"));
+            assertEquals(document.read(), document.read(11));
+        }
+    }
+
+    @Test
+    public void failingPatchIsNotWritten() throws Exception {
+        try (DocumentStore store = DocumentStore.open(folder.getRoot().toPath(), new JacksonStreamingParser())) {
+            VersionedDocument document = store.document("doc");
+            try {
+                document.apply(new JsonPatch().remove("/missing"));
+                fail("Patch should not apply");
+            } catch (IllegalStateException expected) {
+                assertEquals(0, document.version());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPathsAsIds() throws Exception {
+        try (DocumentStore store = DocumentStore.open(folder.getRoot().toPath(), new JacksonStreamingParser())) {
+            store.document("../doc");
+        }
+    }
+
+    @Test
+    public void snapshotsAheadOfTheLogAreDropped() throws Exception {
+        Path root = folder.getRoot().toPath();
+        Path log = root.resolve("doc").resolve("log");
+        Path saved = root.resolve("saved-log");
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.everyOperations(3))) {
+            VersionedDocument document = store.document("doc");
+            for (int i = 0; i < 4; i++) {
+                document.apply(new JsonPatch().add("/n" + i, Json.jNumber(i)));
+            }
+            document.flush();
+            Files.copy(log, saved);
+            for (int i = 4; i < 10; i++) {
+                document.apply(new JsonPatch().add("/n" + i, Json.jNumber(i)));
+            }
+        }
+        assertTrue(Files.exists(root.resolve("doc").resolve("9.snapshot")));
+        // as if the records after the fourth never reached the disk
+        Files.copy(saved, log, StandardCopyOption.REPLACE_EXISTING);
+        Files.createFile(root.resolve("doc").resolve("stray.snapshot"));
+
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.everyOperations(3))) {
+            VersionedDocument document = store.document("doc");
+            assertEquals(4, document.version());
+            assertFalse(Files.exists(root.resolve("doc").resolve("6.snapshot")));
+            assertFalse(Files.exists(root.resolve("doc").resolve("9.snapshot")));
+            assertEquals(5, document.apply(new JsonPatch().add("/other", Json.jBoolean(true))));
+            assertEquals(6, document.apply(new JsonPatch().add("/more", Json.jBoolean(true))));
+        }
+
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.everyOperations(3))) {
+            Json.JObject six = store.document("doc").read(6).asJsonObjectOrEmpty();
+            assertEquals(6, six.size());
+            assertTrue(six.containsKey("more"));
+            assertFalse(six.containsKey("n5"));
+        }
+    }
+
+    @Test
+    public void logIsCutOffBeforeACorruptRecord() throws Exception {
+        Path root = folder.getRoot().toPath();
+        Path log = root.resolve("doc").resolve("log");
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.never())) {
+            VersionedDocument document = store.document("doc");
+            for (int i = 0; i < 3; i++) {
+                document.apply(new JsonPatch().add("/n" + i, Json.jNumber(i)));
+            }
+        }
+        // as if the length of the last record reached the disk, but not all of its payload
+        byte[] bytes = Files.readAllBytes(log);
+        int payload = new String(bytes, StandardCharsets.ISO_8859_1).lastIndexOf("/n2");
+        Arrays.fill(bytes, payload, payload + 3, (byte) 0);
+        Files.write(log, bytes);
+
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.never())) {
+            VersionedDocument document = store.document("doc");
+            assertEquals(2, document.version());
+            assertEquals(Json.jObject("n0", 0).put("n1", Json.jNumber(1)), document.read());
+            assertEquals(3, document.apply(new JsonPatch().add("/other", Json.jBoolean(true))));
+        }
+
+        try (DocumentStore store = DocumentStore.open(root, new JacksonStreamingParser(), SnapshotPolicy.never())) {
+            VersionedDocument document = store.document("doc");
+            assertEquals(3, document.version());
+            assertTrue(document.read().asJsonObjectOrEmpty().containsKey("other"));
+            assertFalse(document.read().asJsonObjectOrEmpty().containsKey("n2"));
+        }
+    }
+}